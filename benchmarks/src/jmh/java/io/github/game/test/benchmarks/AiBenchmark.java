@@ -0,0 +1,45 @@
+package io.github.game.test.benchmarks;
+
+import io.github.game.test.GameWorld;
+import io.github.game.test.ai.EnemyType;
+import io.github.game.test.input.Action;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Full ticks of a world populated with enemies. Sample time mode reports percentiles, so spikes from agents
+ * thinking in the same tick show up in the tail; the player walks through the crowd so agents keep changing tier.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class AiBenchmark {
+    @Param({"1", "100", "1000", "10000"})
+    public int entities;
+
+    private GameWorld world;
+    private int tick;
+
+    @Setup
+    public void setUp() {
+        world = BenchmarkWorlds.create(() -> (tick++ / 1200) % 2 == 0 ? Action.MOVE_RIGHT.mask : Action.MOVE_LEFT.mask, 0);
+        world.spawnPlayer(0f, 0f);
+        EnemyType[] types = EnemyType.values();
+        for (int i = 0; i < entities; i++) {
+            world.spawnEnemy(types[i % types.length], (i % 100) * 24f, (i / 100) * 24f);
+        }
+    }
+
+    @Benchmark
+    public void tick() {
+        world.tick(BenchmarkWorlds.STEP);
+    }
+}
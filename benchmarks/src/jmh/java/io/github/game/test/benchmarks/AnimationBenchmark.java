@@ -0,0 +1,64 @@
+package io.github.game.test.benchmarks;
+
+import com.badlogic.gdx.graphics.g2d.Animation;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import io.github.game.test.anim.FrameTable;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Frame selection for a crowd of actors at different state times, with {@link Animation#getKeyFrame(float, boolean)}
+ * and with the shared {@link FrameTable}s the game uses.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class AnimationBenchmark {
+    @Param({"1", "100", "1000", "10000"})
+    public int entities;
+
+    private Animation<TextureRegion> animation;
+    private FrameTable table;
+    private float[] stateTimes;
+
+    @Setup
+    public void setUp() {
+        TextureRegion[] frames = new TextureRegion[6];
+        for (int i = 0; i < frames.length; i++) {
+            frames[i] = new TextureRegion();
+        }
+        animation = new Animation<>(0.1f, frames);
+        table = new FrameTable(frames, 0.1f, true);
+        stateTimes = new float[entities];
+        Random random = new Random(BenchmarkWorlds.SEED);
+        for (int i = 0; i < entities; i++) {
+            stateTimes[i] = random.nextFloat() * 10f;
+        }
+    }
+
+    @Benchmark
+    public void getKeyFrame(Blackhole blackhole) {
+        for (int i = 0; i < stateTimes.length; i++) {
+            stateTimes[i] += BenchmarkWorlds.STEP;
+            blackhole.consume(animation.getKeyFrame(stateTimes[i], true));
+        }
+    }
+
+    @Benchmark
+    public void frameTable(Blackhole blackhole) {
+        for (int i = 0; i < stateTimes.length; i++) {
+            stateTimes[i] += BenchmarkWorlds.STEP;
+            blackhole.consume(table.frame(stateTimes[i]));
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package io.github.game.test.benchmarks;
+
+import io.github.game.test.GameWorld;
+import io.github.game.test.Player;
+import io.github.game.test.input.ActionSource;
+import io.github.game.test.simulation.FixedStepLoop;
+
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Builds GL-free worlds populated with a given number of player-like entities.
+ */
+final class BenchmarkWorlds {
+    static final float STEP = FixedStepLoop.DEFAULT_STEP;
+    static final long SEED = 42L;
+
+    private BenchmarkWorlds() {
+    }
+
+    /** A serial world, so results stay comparable across runs and allocation counters see all the work. */
+    static GameWorld create(ActionSource actions, int entities) {
+        return create(actions, entities, null);
+    }
+
+    /** @param pool runs the world's parallel phases; null for a fully serial world */
+    static GameWorld create(ActionSource actions, int entities, ForkJoinPool pool) {
+        GameWorld world = new GameWorld(actions, SEED, pool);
+        for (int i = 0; i < entities; i++) {
+            // Spread entities over a grid a few screens wide so the broadphase sees realistic cell occupancy.
+            Player.create(world.getEngine(), (i % 100) * 24f, (i / 100) * 24f);
+        }
+        return world;
+    }
+}
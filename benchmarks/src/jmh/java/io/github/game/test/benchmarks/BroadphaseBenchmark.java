@@ -0,0 +1,88 @@
+package io.github.game.test.benchmarks;
+
+import com.badlogic.gdx.utils.Array;
+import io.github.game.test.collision.EntityType;
+import io.github.game.test.collision.SpatialHash;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Spatial hash maintenance and queries over a field of moving 16x16 actors.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class BroadphaseBenchmark {
+    private static final float SIZE = 16f;
+    private static final float FIELD = 4096f;
+
+    @Param({"1", "100", "1000", "10000"})
+    public int entities;
+
+    private SpatialHash<Integer> hash;
+    private Integer[] items;
+    private float[] x;
+    private float[] y;
+    private float[] vx;
+    private float[] vy;
+    private final Array<Integer> results = new Array<>(false, 256);
+
+    @Setup
+    public void setUp() {
+        hash = new SpatialHash<>(64f);
+        items = new Integer[entities];
+        x = new float[entities];
+        y = new float[entities];
+        vx = new float[entities];
+        vy = new float[entities];
+        Random random = new Random(BenchmarkWorlds.SEED);
+        for (int i = 0; i < entities; i++) {
+            items[i] = i;
+            x[i] = random.nextFloat() * FIELD;
+            y[i] = random.nextFloat() * FIELD;
+            vx[i] = (random.nextFloat() - 0.5f) * 80f;
+            vy[i] = (random.nextFloat() - 0.5f) * 80f;
+            hash.insert(items[i], i % 2 == 0 ? EntityType.ENEMY : EntityType.PICKUP, x[i], y[i], SIZE, SIZE);
+        }
+    }
+
+    @Benchmark
+    public void update() {
+        for (int i = 0; i < entities; i++) {
+            x[i] = wrap(x[i] + vx[i] * BenchmarkWorlds.STEP);
+            y[i] = wrap(y[i] + vy[i] * BenchmarkWorlds.STEP);
+            hash.update(items[i], x[i], y[i], SIZE, SIZE);
+        }
+    }
+
+    /** Every actor asks what it overlaps: the per-tick narrowphase feed. */
+    @Benchmark
+    public void queryOverlaps(Blackhole blackhole) {
+        for (int i = 0; i < entities; i++) {
+            results.clear();
+            hash.query(x[i], y[i], SIZE, SIZE, EntityType.ALL, results);
+            blackhole.consume(results.size);
+        }
+    }
+
+    @Benchmark
+    public Integer nearestEnemy() {
+        return hash.nearest(FIELD / 2f, FIELD / 2f, EntityType.ENEMY, 512f);
+    }
+
+    private static float wrap(float value) {
+        if (value < 0) return value + FIELD;
+        if (value >= FIELD) return value - FIELD;
+        return value;
+    }
+}
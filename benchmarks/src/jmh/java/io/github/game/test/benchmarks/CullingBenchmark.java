@@ -0,0 +1,58 @@
+package io.github.game.test.benchmarks;
+
+import io.github.game.test.camera.Orthographic;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Camera follow plus the per-sprite visibility test the render systems run over a level-sized population.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class CullingBenchmark {
+    private static final float LEVEL_WIDTH = 128 * 16f;
+    private static final float LEVEL_HEIGHT = 16 * 16f;
+
+    @Param({"1", "100", "1000", "10000"})
+    public int entities;
+
+    private Orthographic camera;
+    private float[] x;
+    private float[] y;
+    private float targetX;
+
+    @Setup
+    public void setUp() {
+        camera = new Orthographic();
+        camera.resize(640, 480);
+        camera.setBounds(0, 0, LEVEL_WIDTH, LEVEL_HEIGHT);
+        x = new float[entities];
+        y = new float[entities];
+        Random random = new Random(BenchmarkWorlds.SEED);
+        for (int i = 0; i < entities; i++) {
+            x[i] = random.nextFloat() * LEVEL_WIDTH;
+            y[i] = random.nextFloat() * LEVEL_HEIGHT;
+        }
+    }
+
+    @Benchmark
+    public int followAndCull() {
+        targetX = (targetX + 40f * BenchmarkWorlds.STEP) % LEVEL_WIDTH;
+        camera.follow(targetX, LEVEL_HEIGHT / 2f, BenchmarkWorlds.STEP);
+        int visible = 0;
+        for (int i = 0; i < entities; i++) {
+            if (camera.isVisible(x[i], y[i], 16f, 16f)) visible++;
+        }
+        return visible;
+    }
+}
@@ -0,0 +1,48 @@
+package io.github.game.test.benchmarks;
+
+import com.badlogic.gdx.Input;
+import io.github.game.test.GameWorld;
+import io.github.game.test.ecs.system.InputSystem;
+import io.github.game.test.input.ActionInput;
+import io.github.game.test.input.InputBindings;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Action resolution: key events into the action bitmask, one snapshot, then velocity for every controlled entity.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class InputBenchmark {
+    @Param({"1", "100", "1000", "10000"})
+    public int entities;
+
+    private ActionInput input;
+    private InputSystem inputSystem;
+
+    @Setup
+    public void setUp() {
+        input = new ActionInput(InputBindings.defaults());
+        GameWorld world = BenchmarkWorlds.create(input, entities);
+        inputSystem = world.getEngine().getSystem(InputSystem.class);
+    }
+
+    @Benchmark
+    public int resolve() {
+        input.keyDown(Input.Keys.D);
+        input.keyDown(Input.Keys.W);
+        inputSystem.update(BenchmarkWorlds.STEP);
+        input.keyUp(Input.Keys.W);
+        input.keyUp(Input.Keys.D);
+        return inputSystem.getActions();
+    }
+}
@@ -0,0 +1,93 @@
+package io.github.game.test.benchmarks;
+
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.utils.ImmutableArray;
+import io.github.game.test.GameWorld;
+import io.github.game.test.ai.EnemyType;
+import io.github.game.test.ecs.Mappers;
+import io.github.game.test.ecs.component.TransformComponent;
+import io.github.game.test.input.Action;
+import io.github.game.test.input.ActionSource;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Full ticks of a crowded world with the per-entity phases run serially or on the common fork-join pool. Before
+ * measuring, a serial and a parallel world are ticked side by side and must end with bit-identical positions.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ParallelTickBenchmark {
+    public static final int CHECK_TICKS = 600;
+
+    @Param({"100", "1000", "10000"})
+    public int entities;
+
+    @Param({"false", "true"})
+    public boolean parallel;
+
+    private GameWorld world;
+
+    @Setup
+    public void setUp() {
+        verifyDeterminism();
+        world = populate(parallel ? ForkJoinPool.commonPool() : null);
+    }
+
+    @TearDown
+    public void tearDown() {
+        world.dispose();
+    }
+
+    @Benchmark
+    public void tick() {
+        world.tick(BenchmarkWorlds.STEP);
+    }
+
+    private GameWorld populate(ForkJoinPool pool) {
+        int[] tick = new int[1];
+        ActionSource actions = () -> (tick[0]++ / 120) % 2 == 0 ? Action.MOVE_RIGHT.mask : Action.MOVE_LEFT.mask;
+        // Half player-like movers, half enemies, so AI sensing, movement and animation all have work.
+        GameWorld created = BenchmarkWorlds.create(actions, entities / 2, pool);
+        created.spawnPlayer(0f, 0f);
+        EnemyType[] types = EnemyType.values();
+        for (int i = 0; i < entities - entities / 2; i++) {
+            created.spawnEnemy(types[i % types.length], (i % 100) * 24f, (i / 100) * 24f + 12f);
+        }
+        return created;
+    }
+
+    private void verifyDeterminism() {
+        GameWorld serial = populate(null);
+        GameWorld forked = populate(ForkJoinPool.commonPool());
+        for (int i = 0; i < CHECK_TICKS; i++) {
+            serial.tick(BenchmarkWorlds.STEP);
+            forked.tick(BenchmarkWorlds.STEP);
+        }
+        ImmutableArray<Entity> a = serial.getEngine().getEntities();
+        ImmutableArray<Entity> b = forked.getEngine().getEntities();
+        if (a.size() != b.size()) throw new IllegalStateException("Entity counts differ: " + a.size() + " vs " + b.size());
+        for (int i = 0; i < a.size(); i++) {
+            TransformComponent x = Mappers.transform.get(a.get(i));
+            TransformComponent y = Mappers.transform.get(b.get(i));
+            if (x == null || y == null) continue;
+            if (Float.floatToIntBits(x.position.x) != Float.floatToIntBits(y.position.x)
+                || Float.floatToIntBits(x.position.y) != Float.floatToIntBits(y.position.y)) {
+                throw new IllegalStateException("Entity " + i + " diverged after " + CHECK_TICKS + " ticks");
+            }
+        }
+        serial.dispose();
+        forked.dispose();
+    }
+}
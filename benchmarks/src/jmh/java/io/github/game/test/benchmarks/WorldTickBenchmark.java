@@ -0,0 +1,42 @@
+package io.github.game.test.benchmarks;
+
+import io.github.game.test.GameWorld;
+import io.github.game.test.input.Action;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * One full simulation tick (input, movement, broadphase, animation) over the whole entity population;
+ * the successor of {@code Player.update}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class WorldTickBenchmark {
+    @Param({"1", "100", "1000", "10000"})
+    public int entities;
+
+    private GameWorld world;
+    private int tick;
+
+    @Setup
+    public void setUp() {
+        // Alternate direction every second so entities keep crossing broadphase cells in both directions.
+        world = BenchmarkWorlds.create(() -> (tick++ / 120) % 2 == 0
+            ? Action.MOVE_RIGHT.mask | Action.MOVE_UP.mask
+            : Action.MOVE_LEFT.mask | Action.MOVE_DOWN.mask, entities);
+    }
+
+    @Benchmark
+    public void tick() {
+        world.tick(BenchmarkWorlds.STEP);
+    }
+}
@@ -0,0 +1,55 @@
+package io.github.game.test;
+
+import com.badlogic.ashley.core.Engine;
+import com.badlogic.ashley.core.Entity;
+import io.github.game.test.ai.EnemyAgent;
+import io.github.game.test.ai.EnemyType;
+import io.github.game.test.collision.EntityType;
+import io.github.game.test.ecs.component.AnimationComponent;
+import io.github.game.test.ecs.component.CollisionComponent;
+import io.github.game.test.ecs.component.EnemyComponent;
+import io.github.game.test.ecs.component.RenderComponent;
+import io.github.game.test.ecs.component.TransformComponent;
+import io.github.game.test.ecs.component.VelocityComponent;
+
+/**
+ * Assembles enemy entities from their components.
+ */
+public final class Enemy {
+    public static final float SIZE = 16f;
+
+    private Enemy() {
+    }
+
+    /**
+     * Creates an enemy and adds it to the engine. {@code id} spreads agents over the AI schedule.
+     */
+    public static Entity create(Engine engine, EnemyType type, int id, float x, float y) {
+        Entity entity = new Entity();
+
+        TransformComponent transform = new TransformComponent();
+        transform.position.set(x, y);
+        transform.previousPosition.set(x, y);
+        transform.width = SIZE;
+        transform.height = SIZE;
+        entity.add(transform);
+
+        entity.add(new VelocityComponent());
+
+        CollisionComponent collision = new CollisionComponent();
+        collision.type = EntityType.ENEMY;
+        entity.add(collision);
+
+        AnimationComponent animation = new AnimationComponent();
+        animation.id = type.animation;
+        entity.add(animation);
+        entity.add(new RenderComponent());
+
+        EnemyComponent enemy = new EnemyComponent();
+        enemy.agent = new EnemyAgent(id, type, entity);
+        entity.add(enemy);
+
+        engine.addEntity(entity);
+        return entity;
+    }
+}
@@ -1,73 +1,206 @@
 package io.github.game.test;
 
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.InputMultiplexer;
 import com.badlogic.gdx.Screen;
-import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.controllers.Controllers;
+import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.graphics.g2d.TextureAtlas;
 import com.badlogic.gdx.utils.ScreenUtils;
+import com.badlogic.gdx.utils.TimeUtils;
+import io.github.game.test.actor.Explosion;
+import io.github.game.test.actor.Orb;
+import io.github.game.test.actor.TransientActorAnimations;
+import io.github.game.test.anim.AnimationLibrary;
+import io.github.game.test.assets.AssetDescriptors;
+import io.github.game.test.assets.Assets;
 import io.github.game.test.camera.Orthographic;
+import io.github.game.test.ecs.Mappers;
+import io.github.game.test.ecs.component.TransformComponent;
+import io.github.game.test.ecs.system.RenderSystem;
+import io.github.game.test.fx.Effects;
+import io.github.game.test.hud.Hud;
+import io.github.game.test.input.ActionInput;
+import io.github.game.test.input.ActionSource;
+import io.github.game.test.input.InputBindings;
+import io.github.game.test.light.Lighting;
+import io.github.game.test.map.TileMap;
+import io.github.game.test.map.TileMapRenderer;
+import io.github.game.test.profiling.FrameProfiler;
+import io.github.game.test.profiling.Phase;
+import io.github.game.test.profiling.ProfilerOverlay;
+import io.github.game.test.render.ParallaxBackground;
+import io.github.game.test.render.PixelRenderTarget;
+import io.github.game.test.render.TorchRenderer;
+import io.github.game.test.replay.InputRecorder;
+import io.github.game.test.replay.Recording;
+import io.github.game.test.save.QuickSave;
+import io.github.game.test.simulation.FixedStepLoop;
+import io.github.game.test.stream.RegionRenderer;
+
+import java.util.concurrent.ForkJoinPool;
 
 public class GameScreen implements Screen {
+    /** System property naming a local file to record this session's input to, for the replay benchmark. */
+    public static final String RECORD_PROPERTY = "platformer.record";
+    /**
+     * System property that makes the game log {@link #FIRST_FRAME_MESSAGE} and quit after its first game frame, for
+     * startup measurements and training runs.
+     */
+    public static final String EXIT_AFTER_FIRST_FRAME_PROPERTY = "platformer.exitAfterFirstFrame";
+    public static final String FIRST_FRAME_MESSAGE = "first game frame";
+    private static final String TAG = "GameScreen";
+
     private SpriteBatch batch;
-    private Player player;
+    private GameWorld world;
+    private RenderSystem renderSystem;
+    private ActionInput input;
+    private InputRecorder recorder;
+    private FrameProfiler profiler;
+    private ProfilerOverlay profilerOverlay;
+    private QuickSave quickSave;
+    private InputMultiplexer inputMultiplexer;
+    private FixedStepLoop loop;
     private Orthographic camera;
-    private TextureAtlas atlasPlayer;
-    private Texture background;
+    private TextureAtlas atlas;
+    private ParallaxBackground background;
+    private TileMapRenderer tileMapRenderer;
+    private RegionRenderer regionRenderer;
+    private TorchRenderer torchRenderer;
+    private Effects effects;
+    private Lighting lighting;
+    private Hud hud;
+    private PixelRenderTarget renderTarget;
     private Platformer game;
-    private float centerX;
-    private float centerY;
+    private Assets assets;
+    private boolean firstFrameDone;
 
     public GameScreen(Platformer game) {
         this.game = game;
         camera = new Orthographic();
-        camera.centerOn(camera.getCamera().viewportWidth / 2f,
-            camera.getCamera().viewportHeight / 2f);
+        renderTarget = new PixelRenderTarget();
+        camera.resize(renderTarget.getWidth(), renderTarget.getHeight());
 
-        atlasPlayer = new TextureAtlas(Utils.getInternalPath("atlas/map_atlas.atlas"));
+        assets = game.getAssets();
+        atlas = assets.get(AssetDescriptors.GAME_ATLAS);
         batch = new SpriteBatch();
-        background = new Texture(Utils.getInternalPath("map/tiles_background/background.png"));
-
-        centerX = camera.getCamera().viewportWidth / 2f;
-        centerY = camera.getCamera().viewportHeight / 2f;
 
-        player = new Player(atlasPlayer, centerX, centerY);
+        TileMap map = assets.get(AssetDescriptors.LEVEL_1);
+        background = new ParallaxBackground(map, assets);
+        camera.setBounds(0, 0, map.getWorldWidth(), map.getWorldHeight());
+        camera.centerOn(map.getSpawnX(), map.getSpawnY());
+
+        input = new ActionInput(InputBindings.defaults());
+        long seed = TimeUtils.nanoTime();
+        ActionSource actions = input;
+        if (System.getProperty(RECORD_PROPERTY) != null) {
+            recorder = new InputRecorder(input, new Recording(FixedStepLoop.DEFAULT_STEP, seed));
+            actions = recorder;
+        }
+        world = new GameWorld(actions, seed, ForkJoinPool.commonPool());
+        world.getProgress().level = AssetDescriptors.LEVEL_1.fileName;
+        world.getActorPools().preallocate(map.getPoolSizes());
+        AnimationLibrary animations = new AnimationLibrary(atlas);
+        world.setAnimations(animations);
+        effects = new Effects(animations);
+        world.setEffects(effects);
+        world.loadLevel(map);
+        world.spawnPlayer(map.getSpawnX(), map.getSpawnY());
+        if (map.isStreamed()) {
+            regionRenderer = new RegionRenderer(atlas.findRegion(map.getTileset()));
+            world.getStreamer().addListener(regionRenderer);
+        } else {
+            tileMapRenderer = new TileMapRenderer(map, atlas.findRegion(map.getTileset()));
+        }
+        TransientActorAnimations.register(world.getTransientActors(), animations);
+        torchRenderer = new TorchRenderer(map, animations);
+        lighting = new Lighting(world.getPhysics().getWorld());
+        lighting.addTorches(map);
+        lighting.setGlow(Orb.class, new Color(0.4f, 0.7f, 1f, 0.8f), 32f);
+        lighting.setGlow(Explosion.class, new Color(1f, 0.7f, 0.3f, 1f), 96f);
+        hud = new Hud(world.getProgress(), assets.get(AssetDescriptors.HUD_FONT), atlas);
+        renderSystem = new RenderSystem();
+        world.getEngine().addSystem(renderSystem);
+        loop = new FixedStepLoop(world);
+
+        profiler = new FrameProfiler();
+        profiler.attach(world.getEngine());
+        profilerOverlay = new ProfilerOverlay(profiler);
+        quickSave = new QuickSave(world);
+        inputMultiplexer = new InputMultiplexer(profilerOverlay, quickSave, input);
     }
 
     @Override
     public void show() {
-
+        Gdx.input.setInputProcessor(inputMultiplexer);
+        Controllers.addListener(input);
     }
 
     @Override
     public void render(float delta) {
-        ScreenUtils.clear(0.15f, 0.15f, 0.2f, 1f);
+        profiler.beginFrame();
+        loop.advance(delta);
 
-        player.handleInput();
-        player.update(delta);
+        profiler.beginPhase(Phase.RENDER);
+        renderTarget.begin();
+        ScreenUtils.clear(0.15f, 0.15f, 0.2f, 1f);
 
+        TransformComponent player = Mappers.transform.get(world.getPlayer());
+        camera.follow(player.interpolatedX(loop.getAlpha()) + player.width / 2f,
+            player.interpolatedY(loop.getAlpha()) + player.height / 2f, delta);
         batch.setProjectionMatrix(camera.getCamera().combined);
 
-        float width = camera.getCamera().viewportWidth;
-        float height = camera.getCamera().viewportHeight;
+        batch.begin();
+        background.renderBack(batch, camera);
+        batch.end();
+        profiler.recordBatch(batch);
+
+        if (regionRenderer != null) {
+            regionRenderer.render(camera);
+        } else {
+            tileMapRenderer.render(camera);
+        }
 
         batch.begin();
-        batch.draw(background, 0, 0, width, height);
-        player.render(batch);
+        torchRenderer.render(batch, camera, delta);
+        renderSystem.render(batch, camera, loop.getAlpha());
+        world.getTransientActors().render(batch, camera, loop.getAlpha());
+        effects.update(delta);
+        effects.render(batch, camera);
+        background.renderFront(batch, camera);
         batch.end();
+        profiler.recordBatch(batch);
+        lighting.render(camera, world.getTransientActors(), loop.getAlpha());
+        hud.render(batch);
+        profiler.recordBatch(batch);
+        renderTarget.end();
+
+        renderTarget.present(batch);
+        profiler.recordBatch(batch);
+
+        profilerOverlay.render(batch);
+        profiler.endFrame();
+
+        if (!firstFrameDone) {
+            firstFrameDone = true;
+            if (Boolean.getBoolean(EXIT_AFTER_FIRST_FRAME_PROPERTY)) {
+                Gdx.app.log(TAG, FIRST_FRAME_MESSAGE);
+                Gdx.app.exit();
+            }
+        }
     }
 
     @Override
     public void resize(int width, int height) {
-        camera.resize(width, height);
-        camera.centerOn(camera.getCamera().viewportWidth / 2f,
-            camera.getCamera().viewportHeight / 2f);
-        centerX = camera.getCamera().viewportWidth / 2f;
-        centerY = camera.getCamera().viewportHeight / 2f;
+        // The camera keeps the native resolution; only the upscale factor and letterbox follow the window.
+        renderTarget.resize();
+        profilerOverlay.resize(width, height);
     }
 
     @Override
     public void pause() {
-
+        input.release();
     }
 
     @Override
@@ -77,13 +210,27 @@ public class GameScreen implements Screen {
 
     @Override
     public void hide() {
-
+        Gdx.input.setInputProcessor(null);
+        Controllers.removeListener(input);
+        input.release();
     }
 
     @Override
     public void dispose() {
+        if (recorder != null) {
+            recorder.getRecording().write(Utils.getLocalPath(System.getProperty(RECORD_PROPERTY)));
+        }
+        profiler.setEnabled(false);
+        profilerOverlay.dispose();
+        quickSave.dispose();
         batch.dispose();
-        background.dispose();
-        atlasPlayer.dispose();
+        renderTarget.dispose();
+        if (tileMapRenderer != null) tileMapRenderer.dispose();
+        if (regionRenderer != null) regionRenderer.dispose();
+        lighting.dispose();
+        world.dispose();
+        assets.unload(AssetDescriptors.LEVEL_1);
+        assets.unload(AssetDescriptors.HUD_FONT);
+        assets.unload(AssetDescriptors.GAME_ATLAS);
     }
 }
@@ -0,0 +1,286 @@
+package io.github.game.test;
+
+import com.badlogic.ashley.core.Engine;
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.gdx.math.GridPoint2;
+import com.badlogic.gdx.math.RandomXS128;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.Disposable;
+import io.github.game.test.actor.Bomb;
+import io.github.game.test.actor.Coin;
+import io.github.game.test.actor.Dust;
+import io.github.game.test.actor.Explosion;
+import io.github.game.test.actor.Orb;
+import io.github.game.test.actor.Pickup;
+import io.github.game.test.actor.TransientActor;
+import io.github.game.test.ai.EnemyType;
+import io.github.game.test.anim.AnimationLibrary;
+import io.github.game.test.collision.EntityType;
+import io.github.game.test.collision.SpatialHash;
+import io.github.game.test.ecs.Mappers;
+import io.github.game.test.ecs.ParallelPhase;
+import io.github.game.test.ecs.component.BodyComponent;
+import io.github.game.test.ecs.component.TransformComponent;
+import io.github.game.test.ecs.system.AiSystem;
+import io.github.game.test.ecs.system.AnimationSystem;
+import io.github.game.test.ecs.system.BroadphaseSystem;
+import io.github.game.test.ecs.system.InputSystem;
+import io.github.game.test.ecs.system.MovementSystem;
+import io.github.game.test.ecs.system.PhysicsSystem;
+import io.github.game.test.ecs.system.TransientActorSystem;
+import io.github.game.test.fx.EffectSink;
+import io.github.game.test.input.ActionSource;
+import io.github.game.test.map.EnemySpawn;
+import io.github.game.test.map.PickupSpawn;
+import io.github.game.test.map.TileMap;
+import io.github.game.test.physics.PhysicsWorld;
+import io.github.game.test.physics.TileColliders;
+import io.github.game.test.pool.ActorPools;
+import io.github.game.test.save.Progress;
+import io.github.game.test.simulation.Simulation;
+import io.github.game.test.stream.RegionStreamer;
+
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Simulation side of the game screen: everything that advances on a fixed tick and needs no GL. Within a tick,
+ * per-entity work (AI sensing, movement, animation) runs in parallel batches; structural changes such as spawns,
+ * despawns, physics and broadphase updates stay serial. Results are the same with or without a pool.
+ */
+public class GameWorld implements Simulation, Disposable {
+    public static final float BROADPHASE_CELL_SIZE = 64f;
+    public static final int MAX_POOLED_ACTORS = 512;
+
+    private final Engine engine = new Engine();
+    private final SpatialHash<Entity> broadphase = new SpatialHash<>(BROADPHASE_CELL_SIZE);
+    /** Uncollected pickups, so the player only checks the few near it. */
+    private final SpatialHash<Pickup> pickups = new SpatialHash<>(BROADPHASE_CELL_SIZE);
+    private final Array<Pickup> touched = new Array<>(false, 8);
+    private final ActorPools actorPools = new ActorPools();
+    private final PhysicsWorld physics = new PhysicsWorld();
+    private final TransientActorSystem transientActors;
+    private final AiSystem ai;
+    private final AnimationSystem animations;
+    private final Progress progress = new Progress();
+    private final RandomXS128 random;
+    private long seed;
+    private Entity player;
+    private int enemyCount;
+    private RegionStreamer streamer;
+    private TileMap level;
+    private long ticks;
+
+    /** A world that runs every tick entirely on the calling thread. */
+    public GameWorld(ActionSource actions, long seed) {
+        this(actions, seed, null);
+    }
+
+    /**
+     * @param actions where the player's input comes from each tick: live input, a replay, or nothing
+     * @param seed    seed of the world's random generator; replays reuse the recorded one
+     * @param pool    runs the parallel phases of each tick; null keeps the whole tick on the calling thread
+     */
+    public GameWorld(ActionSource actions, long seed, ForkJoinPool pool) {
+        this.seed = seed;
+        this.random = new RandomXS128(seed);
+
+        actorPools.register("bomb", Bomb.class, Bomb::new, MAX_POOLED_ACTORS);
+        actorPools.register("explosion", Explosion.class, Explosion::new, MAX_POOLED_ACTORS);
+        actorPools.register("coin", Coin.class, Coin::new, MAX_POOLED_ACTORS);
+        actorPools.register("orb", Orb.class, Orb::new, MAX_POOLED_ACTORS);
+        actorPools.register("dust", Dust.class, Dust::new, MAX_POOLED_ACTORS);
+        transientActors = new TransientActorSystem(actorPools);
+        ParallelPhase phase = new ParallelPhase(pool);
+        ai = new AiSystem(transientActors, phase);
+        animations = new AnimationSystem(phase);
+
+        engine.addSystem(new InputSystem(actions));
+        engine.addSystem(ai);
+        engine.addSystem(new MovementSystem(phase));
+        engine.addSystem(new PhysicsSystem(physics));
+        engine.addSystem(new BroadphaseSystem(broadphase));
+        engine.addSystem(animations);
+        engine.addSystem(transientActors);
+    }
+
+    /**
+     * Builds the level's static collision and spawns its enemies and pickups. A streamed level only loads the
+     * regions around its spawn point; the others follow the player. The spawn point is the first save point.
+     */
+    public void loadLevel(TileMap map) {
+        level = map;
+        progress.savePointX = map.getSpawnX();
+        progress.savePointY = map.getSpawnY();
+        if (map.isStreamed()) {
+            streamer = new RegionStreamer(this, map);
+            streamer.update(map.getSpawnX(), map.getSpawnY());
+        } else {
+            TileColliders.build(map, physics);
+            spawnEnemies(map);
+        }
+        spawnPickups(map);
+    }
+
+    public Entity spawnPlayer(float x, float y) {
+        player = Player.create(engine, x, y);
+        BodyComponent body = new BodyComponent();
+        // Input drives both axes directly, so the player ignores gravity but still collides with the level.
+        body.body = physics.createBox(x, y, Player.SIZE, Player.SIZE, 0f);
+        player.add(body);
+        ai.setTarget(Mappers.transform.get(player));
+        return player;
+    }
+
+    /** Spawns every enemy the level places. */
+    public void spawnEnemies(TileMap map) {
+        Array<EnemySpawn> spawns = map.getEnemies();
+        for (int i = 0; i < spawns.size; i++) {
+            EnemySpawn spawn = spawns.get(i);
+            spawnEnemy(EnemyType.forKey(spawn.type), spawn.x * map.getTileSize(), spawn.y * map.getTileSize());
+        }
+    }
+
+    public Entity spawnEnemy(EnemyType type, float x, float y) {
+        return Enemy.create(engine, type, enemyCount++, x, y);
+    }
+
+    /** Spawns every pickup the level places. Pickups are level-wide, even in a streamed level, so each exists once. */
+    public void spawnPickups(TileMap map) {
+        Array<PickupSpawn> spawns = map.getPickups();
+        for (int i = 0; i < spawns.size; i++) {
+            PickupSpawn spawn = spawns.get(i);
+            Class<? extends Pickup> type = spawn.type.equals("orb") ? Orb.class : Coin.class;
+            index(transientActors.spawn(type, spawn.x * map.getTileSize(), spawn.y * map.getTileSize()));
+        }
+    }
+
+    /** Rebuilds the pickup index from the live actors, after they were replaced by a snapshot restore. */
+    public void reindexPickups() {
+        pickups.clear();
+        Array<TransientActor> actors = transientActors.getLive();
+        for (int i = 0; i < actors.size; i++) {
+            TransientActor actor = actors.get(i);
+            if (actor instanceof Pickup && !((Pickup) actor).collected) index((Pickup) actor);
+        }
+    }
+
+    private void index(Pickup pickup) {
+        pickups.insert(pickup, EntityType.PICKUP, pickup.position.x, pickup.position.y, pickup.width, pickup.height);
+    }
+
+    /** Frames for animated entities. Left unset when headless, where no frames are resolved. */
+    public void setAnimations(AnimationLibrary library) {
+        animations.setLibrary(library);
+    }
+
+    /** Receives cosmetic effects the simulation triggers. Left unset when headless. */
+    public void setEffects(EffectSink effects) {
+        animations.setEffects(effects);
+    }
+
+    @Override
+    public void tick(float step) {
+        if (streamer != null && player != null) {
+            TransformComponent transform = Mappers.transform.get(player);
+            streamer.update(transform.position.x + transform.width / 2f, transform.position.y + transform.height / 2f);
+        }
+        engine.update(step);
+        if (player != null) reachPickupsAndCheckpoints();
+        ticks++;
+    }
+
+    /** Collects the pickups the player touches and moves the save point to the last checkpoint touched. */
+    private void reachPickupsAndCheckpoints() {
+        TransformComponent transform = Mappers.transform.get(player);
+        touched.clear();
+        pickups.query(transform.position.x, transform.position.y, transform.width, transform.height,
+            EntityType.PICKUP, touched);
+        for (int i = 0; i < touched.size; i++) {
+            progress.collect(touched.get(i));
+            pickups.remove(touched.get(i));
+        }
+        if (level == null) return;
+        Array<GridPoint2> checkpoints = level.getCheckpoints();
+        int size = level.getTileSize();
+        for (int i = 0; i < checkpoints.size; i++) {
+            GridPoint2 checkpoint = checkpoints.get(i);
+            if (touches(transform, checkpoint.x * size, checkpoint.y * size, size, size)) {
+                progress.savePointX = checkpoint.x * size;
+                progress.savePointY = checkpoint.y * size;
+            }
+        }
+    }
+
+    private static boolean touches(TransformComponent transform, float x, float y, float width, float height) {
+        return transform.position.x < x + width && transform.position.x + transform.width > x
+            && transform.position.y < y + height && transform.position.y + transform.height > y;
+    }
+
+    /** Ticks simulated since the world was created or last restored. */
+    public long getTicks() {
+        return ticks;
+    }
+
+    /** Used when restoring a snapshot. */
+    public void setTicks(long ticks) {
+        this.ticks = ticks;
+    }
+
+    public Progress getProgress() {
+        return progress;
+    }
+
+    /** The only random source the simulation may use, so runs stay reproducible. */
+    public RandomXS128 getRandom() {
+        return random;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    /** Reseeds the random generator and sets its state, when restoring a snapshot from another session. */
+    public void restoreRandom(long seed, long state0, long state1) {
+        this.seed = seed;
+        random.setState(state0, state1);
+    }
+
+    public Engine getEngine() {
+        return engine;
+    }
+
+    public Entity getPlayer() {
+        return player;
+    }
+
+    public SpatialHash<Entity> getBroadphase() {
+        return broadphase;
+    }
+
+    public PhysicsWorld getPhysics() {
+        return physics;
+    }
+
+    /** Region streamer of the loaded level, or null when the level is not streamed. */
+    public RegionStreamer getStreamer() {
+        return streamer;
+    }
+
+    public AiSystem getAi() {
+        return ai;
+    }
+
+    public ActorPools getActorPools() {
+        return actorPools;
+    }
+
+    public TransientActorSystem getTransientActors() {
+        return transientActors;
+    }
+
+    @Override
+    public void dispose() {
+        if (streamer != null) streamer.dispose();
+        physics.dispose();
+    }
+}
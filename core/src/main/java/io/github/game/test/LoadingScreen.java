@@ -0,0 +1,80 @@
+package io.github.game.test;
+
+import com.badlogic.gdx.Screen;
+import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
+import com.badlogic.gdx.utils.ScreenUtils;
+import io.github.game.test.assets.Assets;
+
+/**
+ * Shows a progress bar while the game's assets stream in, then hands over to the {@link GameScreen}.
+ */
+public class LoadingScreen implements Screen {
+    private final Platformer game;
+    private final Assets assets;
+    private ShapeRenderer shapes;
+    private float width;
+    private float height;
+
+    public LoadingScreen(Platformer game) {
+        this.game = game;
+        this.assets = game.getAssets();
+    }
+
+    @Override
+    public void show() {
+        shapes = new ShapeRenderer();
+        assets.loadGame();
+    }
+
+    @Override
+    public void render(float delta) {
+        if (assets.update(Assets.DEFAULT_UPDATE_BUDGET_MILLIS)) {
+            game.setScreen(new GameScreen(game));
+            dispose();
+            return;
+        }
+
+        ScreenUtils.clear(0.15f, 0.15f, 0.2f, 1f);
+        float barWidth = width * 0.6f;
+        float barHeight = 12f;
+        float x = (width - barWidth) / 2f;
+        float y = (height - barHeight) / 2f;
+
+        shapes.begin(ShapeRenderer.ShapeType.Filled);
+        shapes.setColor(0.3f, 0.3f, 0.35f, 1f);
+        shapes.rect(x, y, barWidth, barHeight);
+        shapes.setColor(0.55f, 0.8f, 0.3f, 1f);
+        shapes.rect(x, y, barWidth * assets.getProgress(), barHeight);
+        shapes.end();
+    }
+
+    @Override
+    public void resize(int width, int height) {
+        this.width = width;
+        this.height = height;
+        shapes.getProjectionMatrix().setToOrtho2D(0, 0, width, height);
+    }
+
+    @Override
+    public void pause() {
+
+    }
+
+    @Override
+    public void resume() {
+
+    }
+
+    @Override
+    public void hide() {
+
+    }
+
+    @Override
+    public void dispose() {
+        if (shapes != null) {
+            shapes.dispose();
+            shapes = null;
+        }
+    }
+}
@@ -1,15 +1,18 @@
 package io.github.game.test;
 
 import com.badlogic.gdx.Game;
+import io.github.game.test.assets.Assets;
 
 /**
  * {@link com.badlogic.gdx.ApplicationListener} implementation shared by all platforms.
  */
 public class Platformer extends Game {
+    private Assets assets;
 
     @Override
     public void create() {
-        setScreen(new GameScreen(this));
+        assets = new Assets();
+        setScreen(new LoadingScreen(this));
     }
 
     @Override
@@ -20,10 +23,19 @@ public class Platformer extends Game {
     @Override
     public void dispose() {
         super.dispose();
+        if (screen != null) {
+            screen.dispose();
+        }
+        assets.dispose();
     }
 
     @Override
     public void resize(int width, int height) {
+        super.resize(width, height);
+    }
+
+    public Assets getAssets() {
+        return assets;
     }
 
 }
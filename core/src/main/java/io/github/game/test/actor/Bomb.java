@@ -0,0 +1,30 @@
+package io.github.game.test.actor;
+
+import io.github.game.test.ecs.system.TransientActorSystem;
+
+/**
+ * Thrown bomb: falls under gravity and turns into an {@link Explosion} when its fuse runs out.
+ */
+public class Bomb extends TransientActor {
+    public static final float GRAVITY = -200f;
+    public static final float DEFAULT_FUSE = 1.2f;
+
+    public float fuse = DEFAULT_FUSE;
+
+    @Override
+    public void update(float step, TransientActorSystem actors) {
+        velocity.y += GRAVITY * step;
+        super.update(step, actors);
+        fuse -= step;
+        if (fuse <= 0) {
+            actors.spawn(Explosion.class, position.x, position.y);
+            expire();
+        }
+    }
+
+    @Override
+    public void reset() {
+        super.reset();
+        fuse = DEFAULT_FUSE;
+    }
+}
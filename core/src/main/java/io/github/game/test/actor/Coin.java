@@ -0,0 +1,10 @@
+package io.github.game.test.actor;
+
+public class Coin extends Pickup {
+    public static final float PICKUP_DURATION = 6 * 0.08f;
+
+    @Override
+    protected float getPickupDuration() {
+        return PICKUP_DURATION;
+    }
+}
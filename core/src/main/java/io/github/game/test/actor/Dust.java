@@ -0,0 +1,16 @@
+package io.github.game.test.actor;
+
+import io.github.game.test.ecs.system.TransientActorSystem;
+
+/**
+ * Jump and landing dust puff.
+ */
+public class Dust extends TransientActor {
+    public static final float DURATION = 4 * 0.08f;
+
+    @Override
+    public void update(float step, TransientActorSystem actors) {
+        super.update(step, actors);
+        if (stateTime >= DURATION) expire();
+    }
+}
@@ -0,0 +1,13 @@
+package io.github.game.test.actor;
+
+import io.github.game.test.ecs.system.TransientActorSystem;
+
+public class Explosion extends TransientActor {
+    public static final float DURATION = 10 * 0.06f;
+
+    @Override
+    public void update(float step, TransientActorSystem actors) {
+        super.update(step, actors);
+        if (stateTime >= DURATION) expire();
+    }
+}
@@ -0,0 +1,32 @@
+package io.github.game.test.actor;
+
+import io.github.game.test.ecs.system.TransientActorSystem;
+
+/**
+ * Collectable that stays in the world until picked up, then plays its pickup animation and expires.
+ */
+public abstract class Pickup extends TransientActor {
+    public int value = 1;
+    public boolean collected;
+
+    protected abstract float getPickupDuration();
+
+    public void collect() {
+        if (collected) return;
+        collected = true;
+        stateTime = 0;
+    }
+
+    @Override
+    public void update(float step, TransientActorSystem actors) {
+        super.update(step, actors);
+        if (collected && stateTime >= getPickupDuration()) expire();
+    }
+
+    @Override
+    public void reset() {
+        super.reset();
+        value = 1;
+        collected = false;
+    }
+}
@@ -0,0 +1,60 @@
+package io.github.game.test.actor;
+
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.Pool;
+import io.github.game.test.ecs.system.TransientActorSystem;
+
+/**
+ * Base class for short-lived actors such as bombs, coins and effects. Instances come from a pool and go back to it
+ * once {@link #isExpired()} returns true, so {@link #reset()} must restore every field to its freshly built state.
+ */
+public abstract class TransientActor implements Pool.Poolable {
+    public final Vector2 position = new Vector2();
+    public final Vector2 previousPosition = new Vector2();
+    public final Vector2 velocity = new Vector2();
+    public float width = 16f;
+    public float height = 16f;
+    public float stateTime;
+    public boolean flipX;
+    private boolean expired;
+
+    public void spawn(float x, float y) {
+        position.set(x, y);
+        previousPosition.set(x, y);
+    }
+
+    /** Advances the actor by one simulation tick. */
+    public void update(float step, TransientActorSystem actors) {
+        previousPosition.set(position);
+        position.mulAdd(velocity, step);
+        stateTime += step;
+    }
+
+    public void expire() {
+        expired = true;
+    }
+
+    public boolean isExpired() {
+        return expired;
+    }
+
+    public float interpolatedX(float alpha) {
+        return previousPosition.x + (position.x - previousPosition.x) * alpha;
+    }
+
+    public float interpolatedY(float alpha) {
+        return previousPosition.y + (position.y - previousPosition.y) * alpha;
+    }
+
+    @Override
+    public void reset() {
+        position.setZero();
+        previousPosition.setZero();
+        velocity.setZero();
+        width = 16f;
+        height = 16f;
+        stateTime = 0;
+        flipX = false;
+        expired = false;
+    }
+}
@@ -0,0 +1,23 @@
+package io.github.game.test.actor;
+
+import io.github.game.test.anim.AnimationLibrary;
+import io.github.game.test.ecs.system.TransientActorSystem;
+
+/**
+ * Binds each transient actor type, and each pickup once collected, to its frames in the shared animation library.
+ */
+public final class TransientActorAnimations {
+
+    private TransientActorAnimations() {
+    }
+
+    public static void register(TransientActorSystem actors, AnimationLibrary library) {
+        actors.setAnimation(Bomb.class, library.table("bomb_thrown_anim", 0.08f, true));
+        actors.setAnimation(Explosion.class, library.table("explosion_anim", 0.06f, false));
+        actors.setAnimation(Coin.class, library.table("coin_anim", 0.08f, true));
+        actors.setAnimation(Orb.class, library.table("orb_anim", 0.08f, true));
+        actors.setCollectedAnimation(Coin.class, library.table("coin_pickup_anim", 0.08f, false));
+        actors.setCollectedAnimation(Orb.class, library.table("orb_collected_anim", 0.08f, false));
+        actors.setAnimation(Dust.class, library.table("herochar_after_jump_dust_anim", 0.08f, false));
+    }
+}
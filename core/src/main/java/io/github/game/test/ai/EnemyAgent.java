@@ -0,0 +1,208 @@
+package io.github.game.test.ai;
+
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.gdx.ai.fsm.DefaultStateMachine;
+import com.badlogic.gdx.ai.fsm.StateMachine;
+import com.badlogic.gdx.ai.sched.Schedulable;
+import com.badlogic.gdx.math.MathUtils;
+import io.github.game.test.actor.Bomb;
+import io.github.game.test.ecs.Mappers;
+import io.github.game.test.ecs.component.AnimationComponent;
+import io.github.game.test.ecs.component.AnimationState;
+import io.github.game.test.ecs.component.TransformComponent;
+import io.github.game.test.ecs.component.VelocityComponent;
+import io.github.game.test.ecs.system.AiSystem;
+
+/**
+ * Thinking part of one enemy. The {@link AiSystem} schedules it at a frequency that drops with distance from the
+ * player; each run advances the agent's timers by the ticks since its last run and updates its state machine, which
+ * only sets the entity's velocity. Movement itself happens every tick in {@code MovementSystem}. The distance to
+ * the target is sensed for every agent at the start of the tick, in parallel, and runs read that value.
+ */
+public class EnemyAgent implements Schedulable {
+    public static final float PATROL_RANGE = 48f;
+    public static final float CHASE_SPEED_FACTOR = 1.5f;
+    public static final float ATTACK_DURATION = 0.4f;
+    public static final float BOMB_THROW_SPEED_X = 70f;
+    public static final float BOMB_THROW_SPEED_Y = 90f;
+
+    private final int id;
+    private final EnemyType type;
+    private final Entity entity;
+    private final TransformComponent transform;
+    private final VelocityComponent velocity;
+    private final StateMachine<EnemyAgent, EnemyState> stateMachine;
+    private final float homeX;
+    private final float homeY;
+    private AiSystem system;
+    private AiSystem.Tier tier;
+    private int lastTick;
+    private int direction = 1;
+    private float cooldown;
+    private float attackTime;
+    private float sensedDistance = Float.MAX_VALUE;
+
+    public EnemyAgent(int id, EnemyType type, Entity entity) {
+        this.id = id;
+        this.type = type;
+        this.entity = entity;
+        this.transform = Mappers.transform.get(entity);
+        this.velocity = Mappers.velocity.get(entity);
+        this.homeX = transform.position.x;
+        this.homeY = transform.position.y;
+        this.stateMachine = new DefaultStateMachine<>(this, EnemyState.PATROL);
+    }
+
+    /** Called by the {@link AiSystem} when the agent joins its schedule. */
+    public void attach(AiSystem system, AiSystem.Tier tier) {
+        this.system = system;
+        this.tier = tier;
+        this.lastTick = system.getTick();
+    }
+
+    @Override
+    public void run(long nanoTimeToRun) {
+        float elapsed = (system.getTick() - lastTick) * system.getStep();
+        lastTick = system.getTick();
+        cooldown -= elapsed;
+        attackTime -= elapsed;
+        stateMachine.update();
+
+        AiSystem.Tier wanted = system.tierFor(distanceToTarget());
+        if (wanted != tier) {
+            tier = wanted;
+            system.reschedule(this);
+        }
+    }
+
+    /**
+     * Measures the distance to the target. Called for every agent before the scheduler runs, possibly on a worker
+     * thread; it reads the target's transform and writes nothing else.
+     */
+    public void sense() {
+        TransformComponent target = system.getTarget();
+        if (target == null) {
+            sensedDistance = Float.MAX_VALUE;
+            return;
+        }
+        float dx = target.position.x - transform.position.x;
+        float dy = target.position.y - transform.position.y;
+        sensedDistance = (float) Math.sqrt(dx * dx + dy * dy);
+    }
+
+    /**
+     * Puts the agent back into a saved state without running state enter or exit actions. The {@link AiSystem}
+     * reschedules it for the restored tier afterwards.
+     */
+    public void restore(EnemyState state, int direction, float cooldown, float attackTime, AiSystem.Tier tier,
+                        int lastTick) {
+        stateMachine.setInitialState(state);
+        this.direction = direction;
+        this.cooldown = cooldown;
+        this.attackTime = attackTime;
+        this.tier = tier;
+        this.lastTick = lastTick;
+    }
+
+    boolean canSenseTarget(float rangeFactor) {
+        return distanceToTarget() <= type.senseRange * rangeFactor;
+    }
+
+    boolean isTargetInAttackRange() {
+        return distanceToTarget() <= type.attackRange;
+    }
+
+    boolean isAttackReady() {
+        return cooldown <= 0;
+    }
+
+    boolean isAttackOver() {
+        return attackTime <= 0;
+    }
+
+    void patrol() {
+        float x = transform.position.x;
+        if (x > homeX + PATROL_RANGE) direction = -1;
+        else if (x < homeX - PATROL_RANGE) direction = 1;
+        float vy = type.flying ? (homeY - transform.position.y) : 0f;
+        move(direction * type.speed, vy);
+    }
+
+    void moveTowardTarget() {
+        TransformComponent target = system.getTarget();
+        float speed = type.speed * CHASE_SPEED_FACTOR;
+        float dx = target.position.x - transform.position.x;
+        float dy = type.flying ? target.position.y - transform.position.y : 0f;
+        float length = (float) Math.sqrt(dx * dx + dy * dy);
+        if (length < 1f) {
+            stop();
+        } else {
+            move(dx / length * speed, dy / length * speed);
+        }
+    }
+
+    void stop() {
+        velocity.velocity.setZero();
+    }
+
+    void attack() {
+        cooldown = type.attackCooldown;
+        attackTime = ATTACK_DURATION;
+        TransformComponent target = system.getTarget();
+        transform.flipX = target.position.x < transform.position.x;
+        AnimationComponent animation = Mappers.animation.get(entity);
+        if (animation != null) animation.trigger = AnimationState.ATTACK;
+        if (type == EnemyType.BOMBER_GOBLIN) {
+            Bomb bomb = system.getTransientActors().spawn(Bomb.class, transform.position.x, transform.position.y + transform.height);
+            float distance = target.position.x - transform.position.x;
+            bomb.velocity.set(MathUtils.clamp(distance / Bomb.DEFAULT_FUSE, -BOMB_THROW_SPEED_X, BOMB_THROW_SPEED_X),
+                BOMB_THROW_SPEED_Y);
+        }
+    }
+
+    private void move(float vx, float vy) {
+        velocity.velocity.set(vx, vy);
+        if (vx != 0) transform.flipX = vx < 0;
+    }
+
+    private float distanceToTarget() {
+        return sensedDistance;
+    }
+
+    public int getId() {
+        return id;
+    }
+
+    public EnemyType getType() {
+        return type;
+    }
+
+    public Entity getEntity() {
+        return entity;
+    }
+
+    public StateMachine<EnemyAgent, EnemyState> getStateMachine() {
+        return stateMachine;
+    }
+
+    public AiSystem.Tier getTier() {
+        return tier;
+    }
+
+    /** AI tick of the agent's last run. */
+    public int getLastTick() {
+        return lastTick;
+    }
+
+    public int getDirection() {
+        return direction;
+    }
+
+    public float getCooldown() {
+        return cooldown;
+    }
+
+    public float getAttackTime() {
+        return attackTime;
+    }
+}
@@ -0,0 +1,64 @@
+package io.github.game.test.ai;
+
+import com.badlogic.gdx.ai.fsm.State;
+import com.badlogic.gdx.ai.msg.Telegram;
+
+/**
+ * Shared enemy behavior: patrol around the spawn point, chase the player once it is in sense range and attack when
+ * close enough. States only run when the agent's scheduler slot comes up; in between the entity keeps the velocity
+ * it last chose.
+ */
+public enum EnemyState implements State<EnemyAgent> {
+    PATROL {
+        @Override
+        public void update(EnemyAgent agent) {
+            if (agent.canSenseTarget(1f)) {
+                agent.getStateMachine().changeState(CHASE);
+            } else {
+                agent.patrol();
+            }
+        }
+    },
+
+    CHASE {
+        @Override
+        public void update(EnemyAgent agent) {
+            if (!agent.canSenseTarget(LOSE_TARGET_FACTOR)) {
+                agent.getStateMachine().changeState(PATROL);
+            } else if (agent.isTargetInAttackRange() && agent.isAttackReady()) {
+                agent.getStateMachine().changeState(ATTACK);
+            } else {
+                agent.moveTowardTarget();
+            }
+        }
+    },
+
+    ATTACK {
+        @Override
+        public void enter(EnemyAgent agent) {
+            agent.stop();
+            agent.attack();
+        }
+
+        @Override
+        public void update(EnemyAgent agent) {
+            if (agent.isAttackOver()) agent.getStateMachine().changeState(CHASE);
+        }
+    };
+
+    /** Chasing stops once the target is this many sense ranges away, so agents don't flicker at the edge. */
+    public static final float LOSE_TARGET_FACTOR = 1.5f;
+
+    @Override
+    public void enter(EnemyAgent agent) {
+    }
+
+    @Override
+    public void exit(EnemyAgent agent) {
+    }
+
+    @Override
+    public boolean onMessage(EnemyAgent agent, Telegram telegram) {
+        return false;
+    }
+}
@@ -0,0 +1,41 @@
+package io.github.game.test.ai;
+
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import io.github.game.test.anim.AnimationId;
+
+/**
+ * Tuning of each enemy kind. Distances are in pixels, speeds in pixels per second and times in seconds.
+ */
+public enum EnemyType {
+    GOBLIN("goblin", AnimationId.GOBLIN, 30f, false, 96f, 14f, 1f),
+    BOMBER_GOBLIN("bomber_goblin", AnimationId.BOMBER_GOBLIN, 0f, false, 128f, 128f, 2f),
+    FLY("fly", AnimationId.FLY, 35f, true, 112f, 10f, 1.2f),
+    SLIME("slime", AnimationId.SLIME, 12f, false, 64f, 12f, 1.5f);
+
+    /** Name used by {@code enemy} lines in level files. */
+    public final String key;
+    public final AnimationId animation;
+    public final float speed;
+    public final boolean flying;
+    public final float senseRange;
+    public final float attackRange;
+    public final float attackCooldown;
+
+    EnemyType(String key, AnimationId animation, float speed, boolean flying, float senseRange, float attackRange,
+              float attackCooldown) {
+        this.key = key;
+        this.animation = animation;
+        this.speed = speed;
+        this.flying = flying;
+        this.senseRange = senseRange;
+        this.attackRange = attackRange;
+        this.attackCooldown = attackCooldown;
+    }
+
+    public static EnemyType forKey(String key) {
+        for (EnemyType type : values()) {
+            if (type.key.equals(key)) return type;
+        }
+        throw new GdxRuntimeException("Unknown enemy type: " + key);
+    }
+}
@@ -0,0 +1,25 @@
+package io.github.game.test.anim;
+
+import io.github.game.test.fx.EffectType;
+
+/**
+ * Animated characters of the game. Entities only store one of these; the {@link AnimationLibrary} maps it to the
+ * shared frame tables, so the simulation never touches the atlas.
+ */
+public enum AnimationId {
+    HERO("herochar", EffectType.SWORD),
+    GOBLIN("goblin", null),
+    BOMBER_GOBLIN("bomber_goblin", null),
+    FLY("blue_fly", null),
+    SLIME("slime", null);
+
+    /** Prefix of the character's strips in the atlas, as in {@code <prefix>_<state>_anim}. */
+    public final String prefix;
+    /** Effect played when an attack starts, or null. */
+    public final EffectType attackEffect;
+
+    AnimationId(String prefix, EffectType attackEffect) {
+        this.prefix = prefix;
+        this.attackEffect = attackEffect;
+    }
+}
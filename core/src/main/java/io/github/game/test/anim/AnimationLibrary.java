@@ -0,0 +1,109 @@
+package io.github.game.test.anim;
+
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.ObjectMap;
+import io.github.game.test.ecs.component.AnimationState;
+
+/**
+ * Resolves every animation once, when the atlas is loaded, into shared {@link FrameTable}s. Character strips follow
+ * the packer's naming convention {@code <prefix>_<state>_anim}; a few art-pack spellings are accepted as aliases
+ * and states without a strip fall back to a related one. Nothing is looked up by name after construction.
+ */
+public class AnimationLibrary {
+    public static final float LOOP_FRAME_DURATION = 0.1f;
+    public static final float ONE_SHOT_FRAME_DURATION = 0.08f;
+
+    private final ObjectMap<String, Array<TextureAtlas.AtlasRegion>> strips = new ObjectMap<>();
+    private final AnimationSet[] sets = new AnimationSet[AnimationId.values().length];
+
+    public AnimationLibrary(TextureAtlas atlas) {
+        // One pass over the atlas instead of a linear findRegions() scan per strip.
+        for (TextureAtlas.AtlasRegion region : atlas.getRegions()) {
+            Array<TextureAtlas.AtlasRegion> strip = strips.get(region.name);
+            if (strip == null) {
+                strip = new Array<>();
+                strips.put(region.name, strip);
+            }
+            strip.add(region);
+        }
+        for (Array<TextureAtlas.AtlasRegion> strip : strips.values()) {
+            strip.sort((a, b) -> Integer.compare(a.index, b.index));
+        }
+        for (AnimationId id : AnimationId.values()) {
+            sets[id.ordinal()] = buildSet(id);
+        }
+    }
+
+    private AnimationSet buildSet(AnimationId id) {
+        AnimationState[] states = AnimationState.values();
+        FrameTable[] tables = new FrameTable[states.length];
+        for (AnimationState state : states) {
+            tables[state.ordinal()] = find(id.prefix, state);
+        }
+        if (tables[AnimationState.IDLE.ordinal()] == null) {
+            throw new GdxRuntimeException("No idle animation for " + id.prefix);
+        }
+        // Fallbacks point at states declared earlier, so one forward pass resolves chains such as JUMP -> RUN -> IDLE.
+        for (AnimationState state : states) {
+            if (tables[state.ordinal()] != null) continue;
+            // A borrowed strip still has to end when played as a one-shot, or the state would never be left.
+            tables[state.ordinal()] = tables[fallback(state).ordinal()].withLooping(!state.oneShot);
+        }
+        return new AnimationSet(id, tables);
+    }
+
+    private FrameTable find(String prefix, AnimationState state) {
+        for (String suffix : suffixes(state)) {
+            Array<TextureAtlas.AtlasRegion> strip = strips.get(prefix + "_" + suffix);
+            if (strip != null) {
+                return toTable(strip, state.oneShot ? ONE_SHOT_FRAME_DURATION : LOOP_FRAME_DURATION, !state.oneShot);
+            }
+        }
+        return null;
+    }
+
+    private static String[] suffixes(AnimationState state) {
+        switch (state) {
+            case IDLE:
+                return new String[]{"idle_anim", "idle_or_flying_anim"};
+            case RUN:
+                return new String[]{"run_anim", "walk_anim", "idle_or_flying_anim"};
+            case JUMP:
+                return new String[]{"jump_up_anim"};
+            case ATTACK:
+                return new String[]{"attack_anim", "sword_attack_anim", "atack_anim"};
+            case HIT:
+                return new String[]{"hit_anim"};
+            case DEATH:
+                return new String[]{"death_anim"};
+            default:
+                throw new GdxRuntimeException("Unknown animation state: " + state);
+        }
+    }
+
+    private static AnimationState fallback(AnimationState state) {
+        return state == AnimationState.JUMP ? AnimationState.RUN : AnimationState.IDLE;
+    }
+
+    private static FrameTable toTable(Array<TextureAtlas.AtlasRegion> strip, float frameDuration, boolean looping) {
+        return new FrameTable(strip.toArray(TextureRegion.class), frameDuration, looping);
+    }
+
+    public AnimationSet get(AnimationId id) {
+        return sets[id.ordinal()];
+    }
+
+    /**
+     * Frame table of any other strip, such as effects and props. Meant for load time.
+     *
+     * @throws GdxRuntimeException if the atlas has no region of that name
+     */
+    public FrameTable table(String name, float frameDuration, boolean looping) {
+        Array<TextureAtlas.AtlasRegion> strip = strips.get(name);
+        if (strip == null) throw new GdxRuntimeException("No atlas region named " + name);
+        return toTable(strip, frameDuration, looping);
+    }
+}
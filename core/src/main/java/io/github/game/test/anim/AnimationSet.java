@@ -0,0 +1,25 @@
+package io.github.game.test.anim;
+
+import io.github.game.test.ecs.component.AnimationState;
+
+/**
+ * Frame tables of one character, indexed by {@link AnimationState}. States the atlas has no strip for were resolved
+ * to a fallback when the set was built, so every lookup is a single array read.
+ */
+public final class AnimationSet {
+    private final AnimationId id;
+    private final FrameTable[] tables;
+
+    AnimationSet(AnimationId id, FrameTable[] tables) {
+        this.id = id;
+        this.tables = tables;
+    }
+
+    public FrameTable get(AnimationState state) {
+        return tables[state.ordinal()];
+    }
+
+    public AnimationId getId() {
+        return id;
+    }
+}
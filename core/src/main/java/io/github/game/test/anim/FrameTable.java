@@ -0,0 +1,58 @@
+package io.github.game.test.anim;
+
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+
+/**
+ * Immutable frames of one animation, shared by every entity that plays it. Frame lookup is a division and an array
+ * read; it allocates nothing and keeps no per-entity state.
+ */
+public final class FrameTable {
+    public static final FrameTable EMPTY = new FrameTable(new TextureRegion[0], 1f, true);
+
+    private final TextureRegion[] frames;
+    private final float frameDuration;
+    private final float duration;
+    private final boolean looping;
+
+    public FrameTable(TextureRegion[] frames, float frameDuration, boolean looping) {
+        this.frames = frames;
+        this.frameDuration = frameDuration;
+        this.duration = frames.length * frameDuration;
+        this.looping = looping;
+    }
+
+    /** Frame shown {@code stateTime} seconds into the animation, or null when the table has no frames. */
+    public TextureRegion frame(float stateTime) {
+        if (frames.length == 0) return null;
+        int index = (int) (stateTime / frameDuration);
+        if (looping) return frames[index % frames.length];
+        return frames[Math.min(index, frames.length - 1)];
+    }
+
+    /** True once a non-looping animation has shown its last frame for a full frame duration. */
+    public boolean isFinished(float stateTime) {
+        return !looping && stateTime >= duration;
+    }
+
+    /** This table, or a copy sharing its frames when the looping flag differs. */
+    FrameTable withLooping(boolean looping) {
+        return looping == this.looping ? this : new FrameTable(frames, frameDuration, looping);
+    }
+
+    public int size() {
+        return frames.length;
+    }
+
+    public float getFrameDuration() {
+        return frameDuration;
+    }
+
+    /** Length of one pass through the frames, in seconds. */
+    public float getDuration() {
+        return duration;
+    }
+
+    public boolean isLooping() {
+        return looping;
+    }
+}
@@ -0,0 +1,26 @@
+package io.github.game.test.assets;
+
+import com.badlogic.gdx.assets.AssetDescriptor;
+import com.badlogic.gdx.assets.loaders.BitmapFontLoader;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import io.github.game.test.map.TileMap;
+
+public final class AssetDescriptors {
+    public static final AssetDescriptor<TextureAtlas> GAME_ATLAS =
+        new AssetDescriptor<>("atlas/game.atlas", TextureAtlas.class);
+    public static final AssetDescriptor<TileMap> LEVEL_1 =
+        new AssetDescriptor<>("levels/level1.txt", TileMap.class);
+    /** HUD glyphs; the page image is packed into the game atlas as the "fonts" region. */
+    public static final AssetDescriptor<BitmapFont> HUD_FONT =
+        new AssetDescriptor<>("fonts/hud.fnt", BitmapFont.class, inAtlas(GAME_ATLAS));
+
+    private AssetDescriptors() {
+    }
+
+    private static BitmapFontLoader.BitmapFontParameter inAtlas(AssetDescriptor<TextureAtlas> atlas) {
+        BitmapFontLoader.BitmapFontParameter parameter = new BitmapFontLoader.BitmapFontParameter();
+        parameter.atlasName = atlas.fileName;
+        return parameter;
+    }
+}
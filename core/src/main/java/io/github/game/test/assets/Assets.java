@@ -0,0 +1,78 @@
+package io.github.game.test.assets;
+
+import com.badlogic.gdx.assets.AssetDescriptor;
+import com.badlogic.gdx.assets.AssetManager;
+import com.badlogic.gdx.assets.loaders.FileHandleResolver;
+import com.badlogic.gdx.assets.loaders.resolvers.InternalFileHandleResolver;
+import com.badlogic.gdx.utils.Disposable;
+import io.github.game.test.map.TileMap;
+import io.github.game.test.map.TileMapAssetLoader;
+
+/**
+ * Single owner of every loaded file. Backed by an {@link AssetManager}, so requesting the same file twice shares one
+ * instance and {@link #unload(AssetDescriptor)} only frees it once the last user lets go. Files are decoded on the
+ * manager's loader thread; the render thread only spends {@link #update(int)} budgets on GL uploads.
+ */
+public class Assets implements Disposable {
+    public static final int DEFAULT_UPDATE_BUDGET_MILLIS = 8;
+
+    private final AssetManager manager;
+
+    public Assets() {
+        this(new InternalFileHandleResolver());
+    }
+
+    public Assets(FileHandleResolver resolver) {
+        manager = new AssetManager(resolver);
+        manager.setLoader(TileMap.class, new TileMapAssetLoader(resolver));
+    }
+
+    public <T> void load(AssetDescriptor<T> descriptor) {
+        manager.load(descriptor);
+    }
+
+    /** Queues everything the game screen needs. */
+    public void loadGame() {
+        load(AssetDescriptors.GAME_ATLAS);
+        load(AssetDescriptors.LEVEL_1);
+        load(AssetDescriptors.HUD_FONT);
+    }
+
+    /**
+     * Works through the queue for at most {@code millis} milliseconds.
+     *
+     * @return true once everything queued is loaded
+     */
+    public boolean update(int millis) {
+        return manager.update(millis);
+    }
+
+    public void finishLoading() {
+        manager.finishLoading();
+    }
+
+    public float getProgress() {
+        return manager.getProgress();
+    }
+
+    public boolean isLoaded(AssetDescriptor<?> descriptor) {
+        return manager.isLoaded(descriptor);
+    }
+
+    public <T> T get(AssetDescriptor<T> descriptor) {
+        return manager.get(descriptor);
+    }
+
+    public void unload(AssetDescriptor<?> descriptor) {
+        manager.unload(descriptor.fileName);
+    }
+
+    public AssetManager getManager() {
+        return manager;
+    }
+
+    @Override
+    public void dispose() {
+        manager.dispose();
+    }
+}
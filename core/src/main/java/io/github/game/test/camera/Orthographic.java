@@ -3,21 +3,39 @@ package io.github.game.test.camera;
 import com.badlogic.gdx.ApplicationListener;
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.OrthographicCamera;
-import com.badlogic.gdx.graphics.Texture;
-import com.badlogic.gdx.graphics.g2d.SpriteBatch;
-
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.math.Vector2;
+import io.github.game.test.render.PixelRenderTarget;
+
+/**
+ * 2D camera controller. Follows a target with a dead zone and exponential smoothing, stays inside the level bounds
+ * and snaps its position to whole pixels. After each update it exposes the visible world rectangle so renderers can
+ * skip anything outside the view with one overlap test.
+ */
 public class Orthographic implements ApplicationListener {
-    private OrthographicCamera camera;
-    private final float VIEWPORT_WIDTH = 100f;
-    private final float VIEWPORT_HEIGHT = 100f;
+    public static final float DEFAULT_DEAD_ZONE_WIDTH = 16f;
+    public static final float DEFAULT_DEAD_ZONE_HEIGHT = 24f;
+    public static final float DEFAULT_SMOOTHING = 8f;
 
-    private SpriteBatch batch;
-    private Texture background;
+    private OrthographicCamera camera;
+    // One world unit is one pixel of the native render target; the height always follows from the target's aspect.
+    private final float VIEWPORT_WIDTH = PixelRenderTarget.NATIVE_WIDTH;
+
+    private final Vector2 focus = new Vector2();
+    private final Rectangle bounds = new Rectangle();
+    private final Rectangle visible = new Rectangle();
+    private boolean bounded;
+    private float deadZoneWidth = DEFAULT_DEAD_ZONE_WIDTH;
+    private float deadZoneHeight = DEFAULT_DEAD_ZONE_HEIGHT;
+    private float smoothing = DEFAULT_SMOOTHING;
+    private float pixelSize;
 
     public Orthographic() {
-        camera = new OrthographicCamera(VIEWPORT_WIDTH, VIEWPORT_HEIGHT);
+        camera = new OrthographicCamera(VIEWPORT_WIDTH, PixelRenderTarget.NATIVE_HEIGHT);
         camera.position.set(0, 0, 0);
         camera.update();
+        updateVisible();
     }
 
     @Override
@@ -25,20 +43,18 @@ public class Orthographic implements ApplicationListener {
         float width = Gdx.graphics.getWidth();
         float height = Gdx.graphics.getHeight();
 
-        camera = new OrthographicCamera(VIEWPORT_WIDTH, VIEWPORT_HEIGHT * height / width);
+        camera = new OrthographicCamera(VIEWPORT_WIDTH, VIEWPORT_WIDTH * height / width);
         camera.position.set(0, 0, 0);
         camera.update();
-
-        batch = new SpriteBatch();
-        background = new Texture(Gdx.files.internal("map/tiles_background/background.png"));
-
+        updateVisible();
     }
 
     @Override
     public void resize(int width, int height) {
         camera.viewportWidth = VIEWPORT_WIDTH;
-        camera.viewportHeight = VIEWPORT_HEIGHT * height / width;
-        camera.update();
+        camera.viewportHeight = VIEWPORT_WIDTH * height / width;
+        pixelSize = camera.viewportWidth / width;
+        apply();
     }
 
     @Override
@@ -57,8 +73,7 @@ public class Orthographic implements ApplicationListener {
 
     @Override
     public void dispose() {
-        batch.dispose();
-        background.dispose();
+
     }
 
     public OrthographicCamera getCamera() {
@@ -66,7 +81,92 @@ public class Orthographic implements ApplicationListener {
     }
 
     public void centerOn(float x, float y) {
+        focus.set(x, y);
+        apply();
+    }
+
+    /**
+     * Moves towards the target. The camera only starts moving once the target leaves a dead zone around the
+     * centre of the view, then closes the gap exponentially at the configured smoothing rate (per second).
+     */
+    public void follow(float targetX, float targetY, float delta) {
+        float desiredX = focus.x;
+        float desiredY = focus.y;
+        float dx = targetX - focus.x;
+        float dy = targetY - focus.y;
+        float halfDeadWidth = deadZoneWidth / 2f;
+        float halfDeadHeight = deadZoneHeight / 2f;
+        if (dx > halfDeadWidth) desiredX = targetX - halfDeadWidth;
+        else if (dx < -halfDeadWidth) desiredX = targetX + halfDeadWidth;
+        if (dy > halfDeadHeight) desiredY = targetY - halfDeadHeight;
+        else if (dy < -halfDeadHeight) desiredY = targetY + halfDeadHeight;
+
+        float blend = smoothing <= 0 ? 1f : 1f - (float) Math.exp(-smoothing * delta);
+        focus.x += (desiredX - focus.x) * blend;
+        focus.y += (desiredY - focus.y) * blend;
+        apply();
+    }
+
+    /** Keeps the view inside the given world rectangle, typically the level's extent. */
+    public void setBounds(float x, float y, float width, float height) {
+        bounds.set(x, y, width, height);
+        bounded = true;
+        apply();
+    }
+
+    public void clearBounds() {
+        bounded = false;
+        apply();
+    }
+
+    public void setDeadZone(float width, float height) {
+        deadZoneWidth = width;
+        deadZoneHeight = height;
+    }
+
+    /** Rate at which the camera catches up with the dead zone, per second; 0 or less snaps instantly. */
+    public void setSmoothing(float smoothing) {
+        this.smoothing = smoothing;
+    }
+
+    /** World rectangle covered by the view after the last update. Do not modify. */
+    public Rectangle getVisibleArea() {
+        return visible;
+    }
+
+    public boolean isVisible(float x, float y, float width, float height) {
+        return x < visible.x + visible.width && x + width > visible.x
+            && y < visible.y + visible.height && y + height > visible.y;
+    }
+
+    private void apply() {
+        float halfWidth = camera.viewportWidth * camera.zoom / 2f;
+        float halfHeight = camera.viewportHeight * camera.zoom / 2f;
+        if (bounded) {
+            focus.x = clampAxis(focus.x, halfWidth, bounds.x, bounds.width);
+            focus.y = clampAxis(focus.y, halfHeight, bounds.y, bounds.height);
+        }
+
+        float x = focus.x;
+        float y = focus.y;
+        if (pixelSize > 0) {
+            float step = pixelSize * camera.zoom;
+            x = MathUtils.round(x / step) * step;
+            y = MathUtils.round(y / step) * step;
+        }
         camera.position.set(x, y, 0);
         camera.update();
+        updateVisible();
+    }
+
+    private static float clampAxis(float value, float halfView, float start, float length) {
+        if (length <= halfView * 2f) return start + length / 2f;
+        return MathUtils.clamp(value, start + halfView, start + length - halfView);
+    }
+
+    private void updateVisible() {
+        float width = camera.viewportWidth * camera.zoom;
+        float height = camera.viewportHeight * camera.zoom;
+        visible.set(camera.position.x - width / 2f, camera.position.y - height / 2f, width, height);
     }
 }
@@ -23,6 +23,14 @@ public class Perspective implements ApplicationListener {
     private ModelInstance instance;
     private Texture texture;
     private Material material;
+    private Model model;
+
+    /**
+     * @param texture texture shown on the test cube, owned by the caller (typically loaded through the asset service)
+     */
+    public Perspective(Texture texture) {
+        this.texture = texture;
+    }
 
     @Override
     public void create() {
@@ -38,10 +46,9 @@ public class Perspective implements ApplicationListener {
 
         batch = new ModelBatch();
         builder = new ModelBuilder();
-        texture = new Texture(Gdx.files.internal("map/tiles_background/background.png"));
-        Material material = new Material(new TextureAttribute(TextureAttribute.Diffuse, texture));
+        material = new Material(new TextureAttribute(TextureAttribute.Diffuse, texture));
         int attributes = VertexAttributes.Usage.Position;
-        Model model = builder.createBox(3, 3, 3, material, attributes);
+        model = builder.createBox(3, 3, 3, material, attributes);
         instance = new ModelInstance(model);
         instance.transform.setToTranslation(0, 0, -5);
 
@@ -79,6 +86,7 @@ public class Perspective implements ApplicationListener {
 
     @Override
     public void dispose() {
-
+        batch.dispose();
+        model.dispose();
     }
 }
@@ -0,0 +1,15 @@
+package io.github.game.test.collision;
+
+/**
+ * Bit flags used to tag entries of a {@link SpatialHash} so queries can filter by kind of actor.
+ */
+public final class EntityType {
+    public static final int PLAYER = 1;
+    public static final int ENEMY = 1 << 1;
+    public static final int PICKUP = 1 << 2;
+    public static final int PROJECTILE = 1 << 3;
+    public static final int ALL = ~0;
+
+    private EntityType() {
+    }
+}
@@ -0,0 +1,267 @@
+package io.github.game.test.collision;
+
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.IdentityMap;
+import com.badlogic.gdx.utils.LongMap;
+import com.badlogic.gdx.utils.Pool;
+
+/**
+ * Uniform-grid broadphase. Items are registered with an axis-aligned box and stored in every cell that box touches.
+ * Moving an item only touches the grid when it crosses a cell border, and queries reuse internal state instead of
+ * allocating. Cells that empty out go back to a pool, so the grid only holds cells that are occupied now and, once
+ * the pool has warmed up, the index runs garbage free however far its items travel.
+ *
+ * @param <T> the item type, compared by identity
+ */
+public class SpatialHash<T> {
+    private final float cellSize;
+    private final LongMap<Array<Entry<T>>> cells = new LongMap<>();
+    private final IdentityMap<T, Entry<T>> entries = new IdentityMap<>();
+    private final Pool<Entry<T>> entryPool = new Pool<Entry<T>>() {
+        @Override
+        protected Entry<T> newObject() {
+            return new Entry<>();
+        }
+    };
+    private final Pool<Array<Entry<T>>> cellPool = new Pool<Array<Entry<T>>>() {
+        @Override
+        protected Array<Entry<T>> newObject() {
+            return new Array<>(false, 8);
+        }
+    };
+    private int stamp;
+    // Range of cells created since the last clear, so searches never run past the occupied grid.
+    private int minCellX = Integer.MAX_VALUE;
+    private int minCellY = Integer.MAX_VALUE;
+    private int maxCellX = Integer.MIN_VALUE;
+    private int maxCellY = Integer.MIN_VALUE;
+
+    public SpatialHash(float cellSize) {
+        if (cellSize <= 0) throw new IllegalArgumentException("cellSize must be > 0: " + cellSize);
+        this.cellSize = cellSize;
+    }
+
+    public void insert(T item, int type, float x, float y, float width, float height) {
+        if (entries.containsKey(item)) throw new IllegalArgumentException("Item already registered: " + item);
+        Entry<T> entry = entryPool.obtain();
+        entry.item = item;
+        entry.type = type;
+        entry.setBounds(x, y, width, height);
+        entry.minCellX = cell(x);
+        entry.minCellY = cell(y);
+        entry.maxCellX = cell(x + width);
+        entry.maxCellY = cell(y + height);
+        addToCells(entry);
+        entries.put(item, entry);
+    }
+
+    /** Moves an already registered item. Cells are only rewritten when the covered cell range changes. */
+    public void update(T item, float x, float y, float width, float height) {
+        Entry<T> entry = entries.get(item);
+        if (entry == null) throw new IllegalArgumentException("Item not registered: " + item);
+        entry.setBounds(x, y, width, height);
+        int minX = cell(x);
+        int minY = cell(y);
+        int maxX = cell(x + width);
+        int maxY = cell(y + height);
+        if (minX == entry.minCellX && minY == entry.minCellY && maxX == entry.maxCellX && maxY == entry.maxCellY) {
+            return;
+        }
+        removeFromCells(entry);
+        entry.minCellX = minX;
+        entry.minCellY = minY;
+        entry.maxCellX = maxX;
+        entry.maxCellY = maxY;
+        addToCells(entry);
+    }
+
+    public void remove(T item) {
+        Entry<T> entry = entries.remove(item);
+        if (entry == null) return;
+        removeFromCells(entry);
+        entryPool.free(entry);
+    }
+
+    public boolean contains(T item) {
+        return entries.containsKey(item);
+    }
+
+    public int size() {
+        return entries.size;
+    }
+
+    public void clear() {
+        for (Entry<T> entry : entries.values()) {
+            entryPool.free(entry);
+        }
+        entries.clear();
+        for (Array<Entry<T>> cell : cells.values()) {
+            cell.clear();
+            cellPool.free(cell);
+        }
+        cells.clear();
+        minCellX = Integer.MAX_VALUE;
+        minCellY = Integer.MAX_VALUE;
+        maxCellX = Integer.MIN_VALUE;
+        maxCellY = Integer.MIN_VALUE;
+    }
+
+    /**
+     * Adds to {@code out} every item whose type matches {@code typeMask} and whose box overlaps the given box.
+     * Each item is reported once even if it spans several cells.
+     *
+     * @return {@code out}
+     */
+    public Array<T> query(float x, float y, float width, float height, int typeMask, Array<T> out) {
+        int current = nextStamp();
+        int minX = cell(x);
+        int minY = cell(y);
+        int maxX = cell(x + width);
+        int maxY = cell(y + height);
+        for (int cy = minY; cy <= maxY; cy++) {
+            for (int cx = minX; cx <= maxX; cx++) {
+                Array<Entry<T>> cell = cells.get(key(cx, cy));
+                if (cell == null) continue;
+                for (int i = 0, n = cell.size; i < n; i++) {
+                    Entry<T> entry = cell.get(i);
+                    if (entry.stamp == current || (entry.type & typeMask) == 0) continue;
+                    entry.stamp = current;
+                    if (entry.overlaps(x, y, width, height)) out.add(entry.item);
+                }
+            }
+        }
+        return out;
+    }
+
+    /**
+     * Finds the item of the given type whose box is closest to the point, searching outwards ring by ring.
+     *
+     * @return the closest item within {@code maxDistance}, or null
+     */
+    public T nearest(float x, float y, int typeMask, float maxDistance) {
+        int current = nextStamp();
+        int originX = cell(x);
+        int originY = cell(y);
+        if (cells.size == 0) return null;
+        // Computed in double and capped at the occupied range, so huge distances neither overflow nor search forever.
+        int maxRing = (int) Math.min(Math.ceil((double) maxDistance / cellSize), occupiedRing(originX, originY));
+        float bestDistance2 = maxDistance * maxDistance;
+        T best = null;
+
+        for (int ring = 0; ring <= maxRing; ring++) {
+            for (int cy = originY - ring; cy <= originY + ring; cy++) {
+                boolean edgeRow = cy == originY - ring || cy == originY + ring;
+                int step = edgeRow ? 1 : ring * 2;
+                for (int cx = originX - ring; cx <= originX + ring; cx += step) {
+                    Array<Entry<T>> cell = cells.get(key(cx, cy));
+                    if (cell == null) continue;
+                    for (int i = 0, n = cell.size; i < n; i++) {
+                        Entry<T> entry = cell.get(i);
+                        if (entry.stamp == current || (entry.type & typeMask) == 0) continue;
+                        entry.stamp = current;
+                        float distance2 = entry.distance2(x, y);
+                        if (distance2 <= bestDistance2) {
+                            bestDistance2 = distance2;
+                            best = entry.item;
+                        }
+                    }
+                }
+            }
+            // Anything not seen yet lies entirely outside this ring, so at least ring * cellSize away.
+            float reach = ring * cellSize;
+            if (best != null && bestDistance2 <= reach * reach) break;
+        }
+        return best;
+    }
+
+    public float getCellSize() {
+        return cellSize;
+    }
+
+    /** Ring around the given cell that reaches every cell created since the last clear. */
+    private long occupiedRing(int cellX, int cellY) {
+        return Math.max(Math.max((long) cellX - minCellX, (long) maxCellX - cellX),
+            Math.max((long) cellY - minCellY, (long) maxCellY - cellY));
+    }
+
+    private int nextStamp() {
+        if (++stamp == 0) {
+            for (Entry<T> entry : entries.values()) {
+                entry.stamp = 0;
+            }
+            stamp = 1;
+        }
+        return stamp;
+    }
+
+    private int cell(float coordinate) {
+        return MathUtils.floor(coordinate / cellSize);
+    }
+
+    private static long key(int cellX, int cellY) {
+        return ((long) cellX << 32) | (cellY & 0xffffffffL);
+    }
+
+    private void addToCells(Entry<T> entry) {
+        for (int cy = entry.minCellY; cy <= entry.maxCellY; cy++) {
+            for (int cx = entry.minCellX; cx <= entry.maxCellX; cx++) {
+                long key = key(cx, cy);
+                Array<Entry<T>> cell = cells.get(key);
+                if (cell == null) {
+                    cell = cellPool.obtain();
+                    cells.put(key, cell);
+                    minCellX = Math.min(minCellX, cx);
+                    minCellY = Math.min(minCellY, cy);
+                    maxCellX = Math.max(maxCellX, cx);
+                    maxCellY = Math.max(maxCellY, cy);
+                }
+                cell.add(entry);
+            }
+        }
+    }
+
+    private void removeFromCells(Entry<T> entry) {
+        for (int cy = entry.minCellY; cy <= entry.maxCellY; cy++) {
+            for (int cx = entry.minCellX; cx <= entry.maxCellX; cx++) {
+                long key = key(cx, cy);
+                Array<Entry<T>> cell = cells.get(key);
+                if (cell == null) continue;
+                cell.removeValue(entry, true);
+                if (cell.size == 0) cellPool.free(cells.remove(key));
+            }
+        }
+    }
+
+    private static class Entry<T> implements Pool.Poolable {
+        T item;
+        int type;
+        float x, y, width, height;
+        int minCellX, minCellY, maxCellX, maxCellY;
+        int stamp;
+
+        void setBounds(float x, float y, float width, float height) {
+            this.x = x;
+            this.y = y;
+            this.width = width;
+            this.height = height;
+        }
+
+        boolean overlaps(float ox, float oy, float ow, float oh) {
+            return x < ox + ow && x + width > ox && y < oy + oh && y + height > oy;
+        }
+
+        float distance2(float px, float py) {
+            float dx = Math.max(0, Math.max(x - px, px - (x + width)));
+            float dy = Math.max(0, Math.max(y - py, py - (y + height)));
+            return dx * dx + dy * dy;
+        }
+
+        @Override
+        public void reset() {
+            item = null;
+            type = 0;
+            stamp = 0;
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package io.github.game.test.ecs;
+
+import com.badlogic.ashley.core.ComponentMapper;
+import io.github.game.test.ecs.component.AnimationComponent;
+import io.github.game.test.ecs.component.BodyComponent;
+import io.github.game.test.ecs.component.CollisionComponent;
+import io.github.game.test.ecs.component.EnemyComponent;
+import io.github.game.test.ecs.component.InputComponent;
+import io.github.game.test.ecs.component.RenderComponent;
+import io.github.game.test.ecs.component.TransformComponent;
+import io.github.game.test.ecs.component.VelocityComponent;
+
+public final class Mappers {
+    public static final ComponentMapper<TransformComponent> transform = ComponentMapper.getFor(TransformComponent.class);
+    public static final ComponentMapper<VelocityComponent> velocity = ComponentMapper.getFor(VelocityComponent.class);
+    public static final ComponentMapper<AnimationComponent> animation = ComponentMapper.getFor(AnimationComponent.class);
+    public static final ComponentMapper<RenderComponent> render = ComponentMapper.getFor(RenderComponent.class);
+    public static final ComponentMapper<InputComponent> input = ComponentMapper.getFor(InputComponent.class);
+    public static final ComponentMapper<CollisionComponent> collision = ComponentMapper.getFor(CollisionComponent.class);
+    public static final ComponentMapper<BodyComponent> body = ComponentMapper.getFor(BodyComponent.class);
+    public static final ComponentMapper<EnemyComponent> enemy = ComponentMapper.getFor(EnemyComponent.class);
+
+    private Mappers() {
+    }
+}
@@ -0,0 +1,112 @@
+package io.github.game.test.ecs;
+
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.utils.ImmutableArray;
+import com.badlogic.gdx.utils.Array;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Runs a per-entity task over a family's entities in fixed-size batches on a {@link ForkJoinPool}. A task may only
+ * write to the entity it is given, or to slots the caller keeps per entity index, and may only read state no task of
+ * the same phase writes. The result then does not depend on how batches are spread over threads, so a phase gives
+ * the same bits on one core or many. Small populations run inline, where forking would cost more than it saves, and
+ * batch tasks are reused from tick to tick.
+ */
+public final class ParallelPhase {
+    public static final int DEFAULT_BATCH_SIZE = 256;
+
+    /** Work done for one entity; {@code index} is the entity's position in the array being processed. */
+    public interface EntityTask {
+        void process(Entity entity, int index, float deltaTime);
+    }
+
+    private final ForkJoinPool pool;
+    private final int batchSize;
+    private final Array<Batch> batches = new Array<>(false, 16);
+    private final Fan fan = new Fan();
+
+    /** @param pool where batches run, or null to run every phase on the calling thread */
+    public ParallelPhase(ForkJoinPool pool) {
+        this(pool, DEFAULT_BATCH_SIZE);
+    }
+
+    public ParallelPhase(ForkJoinPool pool, int batchSize) {
+        this.pool = pool;
+        this.batchSize = batchSize;
+    }
+
+    /** A phase that always runs on the calling thread. */
+    public static ParallelPhase serial() {
+        return new ParallelPhase(null);
+    }
+
+    /** Runs {@code task} for every entity and returns once all of them are done. */
+    public void forEach(ImmutableArray<Entity> entities, float deltaTime, EntityTask task) {
+        int size = entities.size();
+        if (pool == null || size <= batchSize) {
+            run(entities, 0, size, deltaTime, task);
+            return;
+        }
+        int count = (size + batchSize - 1) / batchSize;
+        while (batches.size < count) {
+            batches.add(new Batch());
+        }
+        for (int i = 0; i < count; i++) {
+            Batch batch = batches.get(i);
+            batch.reinitialize();
+            batch.set(entities, i * batchSize, Math.min(size, (i + 1) * batchSize), deltaTime, task);
+        }
+        fan.reinitialize();
+        fan.count = count;
+        pool.invoke(fan);
+    }
+
+    private static void run(ImmutableArray<Entity> entities, int from, int to, float deltaTime, EntityTask task) {
+        for (int i = from; i < to; i++) {
+            task.process(entities.get(i), i, deltaTime);
+        }
+    }
+
+    public boolean isParallel() {
+        return pool != null;
+    }
+
+    /** Forks every batch but the first, runs that one itself, then joins the rest newest first. */
+    private final class Fan extends RecursiveAction {
+        int count;
+
+        @Override
+        protected void compute() {
+            for (int i = 1; i < count; i++) {
+                batches.get(i).fork();
+            }
+            batches.get(0).invoke();
+            for (int i = count - 1; i >= 1; i--) {
+                batches.get(i).join();
+            }
+        }
+    }
+
+    private static final class Batch extends RecursiveAction {
+        private ImmutableArray<Entity> entities;
+        private int from;
+        private int to;
+        private float deltaTime;
+        private EntityTask task;
+
+        void set(ImmutableArray<Entity> entities, int from, int to, float deltaTime, EntityTask task) {
+            this.entities = entities;
+            this.from = from;
+            this.to = to;
+            this.deltaTime = deltaTime;
+            this.task = task;
+        }
+
+        @Override
+        protected void compute() {
+            run(entities, from, to, deltaTime, task);
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package io.github.game.test.ecs;
+
+/**
+ * Order in which systems run inside one tick; lower values run first.
+ */
+public final class SystemPriority {
+    public static final int INPUT = 0;
+    public static final int AI = 5;
+    public static final int MOVEMENT = 10;
+    public static final int PHYSICS = 15;
+    public static final int BROADPHASE = 20;
+    public static final int ANIMATION = 30;
+    public static final int TRANSIENT_ACTORS = 40;
+    public static final int RENDER = 100;
+
+    private SystemPriority() {
+    }
+}
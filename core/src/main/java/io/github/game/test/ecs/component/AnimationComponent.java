@@ -0,0 +1,16 @@
+package io.github.game.test.ecs.component;
+
+import com.badlogic.ashley.core.Component;
+import io.github.game.test.anim.AnimationId;
+
+/**
+ * Per-entity animation state. Frames live in the shared {@code AnimationLibrary}; an entity only keeps which
+ * character it is, what it is doing and for how long.
+ */
+public class AnimationComponent implements Component {
+    public AnimationId id;
+    public AnimationState state = AnimationState.IDLE;
+    public float stateTime;
+    /** One-shot state requested by gameplay this tick, consumed by the animation system. */
+    public AnimationState trigger;
+}
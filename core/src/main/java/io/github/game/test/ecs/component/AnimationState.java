@@ -0,0 +1,21 @@
+package io.github.game.test.ecs.component;
+
+/**
+ * What an animated entity is doing. Locomotion states loop and follow the entity's velocity; one-shot states are
+ * requested by gameplay and play through once before locomotion takes over again, except {@link #DEATH}, which holds
+ * its last frame.
+ */
+public enum AnimationState {
+    IDLE(false),
+    RUN(false),
+    JUMP(false),
+    ATTACK(true),
+    HIT(true),
+    DEATH(true);
+
+    public final boolean oneShot;
+
+    AnimationState(boolean oneShot) {
+        this.oneShot = oneShot;
+    }
+}
@@ -0,0 +1,12 @@
+package io.github.game.test.ecs.component;
+
+import com.badlogic.ashley.core.Component;
+import com.badlogic.gdx.physics.box2d.Body;
+
+/**
+ * Box2D body driving the entity's transform. Entities with a body are moved by the physics step, not by
+ * {@code MovementSystem}.
+ */
+public class BodyComponent implements Component {
+    public Body body;
+}
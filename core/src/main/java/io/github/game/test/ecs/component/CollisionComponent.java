@@ -0,0 +1,11 @@
+package io.github.game.test.ecs.component;
+
+import com.badlogic.ashley.core.Component;
+import io.github.game.test.collision.EntityType;
+
+/**
+ * Registers an entity in the broadphase under the given {@link EntityType} flags.
+ */
+public class CollisionComponent implements Component {
+    public int type;
+}
@@ -0,0 +1,8 @@
+package io.github.game.test.ecs.component;
+
+import com.badlogic.ashley.core.Component;
+import io.github.game.test.ai.EnemyAgent;
+
+public class EnemyComponent implements Component {
+    public EnemyAgent agent;
+}
@@ -0,0 +1,13 @@
+package io.github.game.test.ecs.component;
+
+import com.badlogic.ashley.core.Component;
+
+/**
+ * Marks an entity as driven by the player's input, with its movement speeds in world units per second.
+ * {@link #actions} holds the {@link io.github.game.test.input.Action} mask read this tick.
+ */
+public class InputComponent implements Component {
+    public int actions;
+    public float speedX;
+    public float speedY;
+}
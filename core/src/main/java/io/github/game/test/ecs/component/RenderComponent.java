@@ -0,0 +1,11 @@
+package io.github.game.test.ecs.component;
+
+import com.badlogic.ashley.core.Component;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+
+/**
+ * Frame to draw for an entity. Kept up to date by the animation system for animated entities.
+ */
+public class RenderComponent implements Component {
+    public TextureRegion region;
+}
@@ -0,0 +1,23 @@
+package io.github.game.test.ecs.component;
+
+import com.badlogic.ashley.core.Component;
+import com.badlogic.gdx.math.Vector2;
+
+/**
+ * Position of an entity at the current and previous tick, so rendering can interpolate between them.
+ */
+public class TransformComponent implements Component {
+    public final Vector2 position = new Vector2();
+    public final Vector2 previousPosition = new Vector2();
+    public float width;
+    public float height;
+    public boolean flipX;
+
+    public float interpolatedX(float alpha) {
+        return previousPosition.x + (position.x - previousPosition.x) * alpha;
+    }
+
+    public float interpolatedY(float alpha) {
+        return previousPosition.y + (position.y - previousPosition.y) * alpha;
+    }
+}
@@ -0,0 +1,8 @@
+package io.github.game.test.ecs.component;
+
+import com.badlogic.ashley.core.Component;
+import com.badlogic.gdx.math.Vector2;
+
+public class VelocityComponent implements Component {
+    public final Vector2 velocity = new Vector2();
+}
@@ -0,0 +1,192 @@
+package io.github.game.test.ecs.system;
+
+import com.badlogic.ashley.core.Engine;
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.core.EntityListener;
+import com.badlogic.ashley.core.EntitySystem;
+import com.badlogic.ashley.core.Family;
+import com.badlogic.ashley.utils.ImmutableArray;
+import com.badlogic.gdx.ai.sched.LoadBalancingScheduler;
+import com.badlogic.gdx.utils.Array;
+import io.github.game.test.ai.EnemyAgent;
+import io.github.game.test.ecs.Mappers;
+import io.github.game.test.ecs.ParallelPhase;
+import io.github.game.test.ecs.SystemPriority;
+import io.github.game.test.ecs.component.EnemyComponent;
+import io.github.game.test.ecs.component.TransformComponent;
+
+/**
+ * Runs enemy thinking through a {@link LoadBalancingScheduler}. Each agent is scheduled every few ticks according
+ * to its distance {@link Tier}, with its phase taken from its id so agents of a tier are spread evenly over the
+ * ticks. A tick therefore thinks for a fraction of the agents, however many there are. Agents that change tier
+ * are moved after the scheduler run, never during it. Before the run every agent senses the target in parallel;
+ * the run itself, which may spawn actors, stays on the calling thread.
+ * <p>
+ * The tick counter, each agent's tier and the order agents run in can be read back and restored, so a restored world
+ * thinks on the same ticks, in the same order, as the one that was saved.
+ */
+public class AiSystem extends EntitySystem implements EntityListener {
+    public static final float NEAR_DISTANCE = 192f;
+    public static final float MID_DISTANCE = 480f;
+    /** Time handed to the scheduler each tick. Agents are cheap, so this guides the split rather than cutting runs. */
+    public static final long BUDGET_NANOS = 500_000L;
+    public static final int DRY_RUN_FRAMES = 60;
+
+    /** Update frequency in ticks by distance to the player: near agents think at 30 Hz, far ones twice a second. */
+    public enum Tier {
+        NEAR(4), MID(15), FAR(60);
+
+        public final int frequency;
+
+        Tier(int frequency) {
+            this.frequency = frequency;
+        }
+    }
+
+    private static final Family FAMILY = Family.all(EnemyComponent.class, TransformComponent.class).get();
+
+    private final LoadBalancingScheduler scheduler = new LoadBalancingScheduler(DRY_RUN_FRAMES);
+    private final TransientActorSystem transientActors;
+    private final Array<EnemyAgent> rescheduled = new Array<>(false, 16);
+    /** Agents in the order the scheduler holds and runs them. */
+    private final Array<EnemyAgent> scheduled = new Array<>();
+    private final Array<EnemyAgent> restoring = new Array<>();
+    private final ParallelPhase phase;
+    private final ParallelPhase.EntityTask sense = (entity, index, deltaTime) -> Mappers.enemy.get(entity).agent.sense();
+    private ImmutableArray<Entity> agents;
+    private TransformComponent target;
+    private int tick;
+    /** Scheduler runs so far; only differs from {@link #tick} after a restore. */
+    private int frames;
+    private float step;
+
+    public AiSystem(TransientActorSystem transientActors) {
+        this(transientActors, ParallelPhase.serial());
+    }
+
+    public AiSystem(TransientActorSystem transientActors, ParallelPhase phase) {
+        super(SystemPriority.AI);
+        this.transientActors = transientActors;
+        this.phase = phase;
+    }
+
+    @Override
+    public void addedToEngine(Engine engine) {
+        agents = engine.getEntitiesFor(FAMILY);
+        engine.addEntityListener(FAMILY, this);
+    }
+
+    @Override
+    public void removedFromEngine(Engine engine) {
+        engine.removeEntityListener(this);
+    }
+
+    @Override
+    public void update(float deltaTime) {
+        step = deltaTime;
+        tick++;
+        frames++;
+        phase.forEach(agents, deltaTime, sense);
+        scheduler.run(BUDGET_NANOS);
+
+        for (int i = 0; i < rescheduled.size; i++) {
+            EnemyAgent agent = rescheduled.get(i);
+            unschedule(agent);
+            schedule(agent);
+        }
+        rescheduled.clear();
+    }
+
+    @Override
+    public void entityAdded(Entity entity) {
+        EnemyAgent agent = Mappers.enemy.get(entity).agent;
+        agent.attach(this, target == null ? Tier.MID : tierFor(distance(agent)));
+        schedule(agent);
+    }
+
+    @Override
+    public void entityRemoved(Entity entity) {
+        EnemyAgent agent = Mappers.enemy.get(entity).agent;
+        unschedule(agent);
+        rescheduled.removeValue(agent, true);
+    }
+
+    /** Adds the agent at the end of the run order, phased by its id against the AI tick. */
+    private void schedule(EnemyAgent agent) {
+        int frequency = agent.getTier().frequency;
+        // The scheduler runs an agent when (frames + phase) is a multiple of its frequency; offsetting by the
+        // restored tick keeps the phase tied to the AI tick instead.
+        scheduler.add(agent, frequency, Math.floorMod(agent.getId() + tick - frames, frequency));
+        scheduled.add(agent);
+    }
+
+    private void unschedule(EnemyAgent agent) {
+        scheduler.remove(agent);
+        scheduled.removeValue(agent, true);
+    }
+
+    /**
+     * Restores the AI tick and rebuilds the schedule from the agents' restored tiers. {@code order} is the saved run
+     * order; scheduled agents missing from it keep their relative order after it.
+     */
+    public void restore(int tick, Array<EnemyAgent> order) {
+        this.tick = tick;
+        restoring.clear();
+        restoring.addAll(order);
+        for (int i = 0; i < scheduled.size; i++) {
+            if (!order.contains(scheduled.get(i), true)) restoring.add(scheduled.get(i));
+        }
+        for (int i = 0; i < restoring.size; i++) {
+            scheduler.remove(restoring.get(i));
+        }
+        scheduled.clear();
+        rescheduled.clear();
+        for (int i = 0; i < restoring.size; i++) {
+            schedule(restoring.get(i));
+        }
+        restoring.clear();
+    }
+
+    /** Queues a tier change; applied once the current scheduler run is over. */
+    public void reschedule(EnemyAgent agent) {
+        if (!rescheduled.contains(agent, true)) rescheduled.add(agent);
+    }
+
+    public Tier tierFor(float distance) {
+        if (distance <= NEAR_DISTANCE) return Tier.NEAR;
+        if (distance <= MID_DISTANCE) return Tier.MID;
+        return Tier.FAR;
+    }
+
+    private float distance(EnemyAgent agent) {
+        TransformComponent transform = Mappers.transform.get(agent.getEntity());
+        return transform.position.dst(target.position);
+    }
+
+    /** What enemies chase, usually the player's transform. May be null. */
+    public void setTarget(TransformComponent target) {
+        this.target = target;
+    }
+
+    public TransformComponent getTarget() {
+        return target;
+    }
+
+    public TransientActorSystem getTransientActors() {
+        return transientActors;
+    }
+
+    public int getTick() {
+        return tick;
+    }
+
+    /** Agents in the order they run within a tick. */
+    public Array<EnemyAgent> getScheduled() {
+        return scheduled;
+    }
+
+    /** Length of the current tick in seconds. */
+    public float getStep() {
+        return step;
+    }
+}
@@ -0,0 +1,132 @@
+package io.github.game.test.ecs.system;
+
+import com.badlogic.ashley.core.Engine;
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.core.EntitySystem;
+import com.badlogic.ashley.core.Family;
+import com.badlogic.ashley.utils.ImmutableArray;
+import io.github.game.test.anim.AnimationId;
+import io.github.game.test.anim.AnimationLibrary;
+import io.github.game.test.anim.AnimationSet;
+import io.github.game.test.ecs.Mappers;
+import io.github.game.test.ecs.ParallelPhase;
+import io.github.game.test.ecs.SystemPriority;
+import io.github.game.test.ecs.component.AnimationComponent;
+import io.github.game.test.ecs.component.AnimationState;
+import io.github.game.test.ecs.component.RenderComponent;
+import io.github.game.test.ecs.component.TransformComponent;
+import io.github.game.test.ecs.component.VelocityComponent;
+import io.github.game.test.fx.EffectSink;
+import io.github.game.test.fx.EffectType;
+
+/**
+ * Advances each entity's animation state machine and stores the current frame in its {@link RenderComponent}.
+ * Triggered one-shot states play until their frame table runs out, then movement picks idle, run or jump again;
+ * death is final. Without a library (headless) one-shots end immediately and no frames are resolved. State changes
+ * that deserve dust, a sword swing or sparkles are reported to the effect sink, if any.
+ * <p>
+ * Entities are advanced in parallel; each only touches its own components. Effects are parked in a slot per entity
+ * index and reported afterwards on the calling thread, in entity order, so the sink sees the same sequence however
+ * the work was split.
+ */
+public class AnimationSystem extends EntitySystem {
+    private static final Family FAMILY = Family.all(AnimationComponent.class, RenderComponent.class).get();
+
+    private final ParallelPhase phase;
+    private final ParallelPhase.EntityTask advance = this::advance;
+    private ImmutableArray<Entity> entities;
+    private EffectType[] pendingEffects = new EffectType[64];
+    private AnimationLibrary library;
+    private EffectSink effects;
+
+    public AnimationSystem() {
+        this(ParallelPhase.serial());
+    }
+
+    public AnimationSystem(ParallelPhase phase) {
+        super(SystemPriority.ANIMATION);
+        this.phase = phase;
+    }
+
+    @Override
+    public void addedToEngine(Engine engine) {
+        entities = engine.getEntitiesFor(FAMILY);
+    }
+
+    @Override
+    public void removedFromEngine(Engine engine) {
+        entities = null;
+    }
+
+    public void setLibrary(AnimationLibrary library) {
+        this.library = library;
+    }
+
+    public void setEffects(EffectSink effects) {
+        this.effects = effects;
+    }
+
+    @Override
+    public void update(float deltaTime) {
+        if (pendingEffects.length < entities.size()) pendingEffects = new EffectType[entities.size() * 2];
+        phase.forEach(entities, deltaTime, advance);
+
+        for (int i = 0, n = entities.size(); i < n; i++) {
+            EffectType effect = pendingEffects[i];
+            if (effect == null) continue;
+            pendingEffects[i] = null;
+            TransformComponent transform = Mappers.transform.get(entities.get(i));
+            effects.spawn(effect, transform.position.x + transform.width / 2f, transform.position.y, transform.flipX);
+        }
+    }
+
+    private void advance(Entity entity, int index, float deltaTime) {
+        AnimationComponent animation = Mappers.animation.get(entity);
+        AnimationSet set = library != null && animation.id != null ? library.get(animation.id) : null;
+
+        animation.stateTime += deltaTime;
+        AnimationState trigger = animation.trigger;
+        animation.trigger = null;
+        if (animation.state != AnimationState.DEATH) {
+            boolean finished = isFinished(animation, set);
+            if (trigger != null && (trigger != animation.state || finished)) {
+                play(index, animation, trigger);
+            } else if (!animation.state.oneShot || finished) {
+                AnimationState next = locomotion(Mappers.velocity.get(entity));
+                if (next != animation.state) play(index, animation, next);
+            }
+        }
+
+        if (set != null) {
+            Mappers.render.get(entity).region = set.get(animation.state).frame(animation.stateTime);
+        }
+    }
+
+    private static boolean isFinished(AnimationComponent animation, AnimationSet set) {
+        return set == null || set.get(animation.state).isFinished(animation.stateTime);
+    }
+
+    private static AnimationState locomotion(VelocityComponent velocity) {
+        if (velocity == null || velocity.velocity.isZero()) return AnimationState.IDLE;
+        return velocity.velocity.y > 0 ? AnimationState.JUMP : AnimationState.RUN;
+    }
+
+    private void play(int index, AnimationComponent animation, AnimationState state) {
+        if (effects != null) pendingEffects[index] = effectFor(animation.id, animation.state, state);
+        animation.state = state;
+        animation.stateTime = 0;
+    }
+
+    private static EffectType effectFor(AnimationId id, AnimationState previous, AnimationState next) {
+        switch (next) {
+            case JUMP:
+                return EffectType.JUMP_DUST;
+            case ATTACK:
+                return id != null ? id.attackEffect : null;
+            case HIT:
+                return EffectType.HIT_SPARKLE;
+            default:
+                return previous == AnimationState.JUMP && next != AnimationState.DEATH ? EffectType.LAND_DUST : null;
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package io.github.game.test.ecs.system;
+
+import com.badlogic.ashley.core.Engine;
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.core.EntityListener;
+import com.badlogic.ashley.core.Family;
+import com.badlogic.ashley.systems.IteratingSystem;
+import io.github.game.test.collision.SpatialHash;
+import io.github.game.test.ecs.Mappers;
+import io.github.game.test.ecs.SystemPriority;
+import io.github.game.test.ecs.component.CollisionComponent;
+import io.github.game.test.ecs.component.TransformComponent;
+
+/**
+ * Keeps a {@link SpatialHash} in sync with every collidable entity: entries are added and removed with the
+ * entities and moved after the movement system has run.
+ */
+public class BroadphaseSystem extends IteratingSystem implements EntityListener {
+    private static final Family FAMILY = Family.all(TransformComponent.class, CollisionComponent.class).get();
+
+    private final SpatialHash<Entity> broadphase;
+
+    public BroadphaseSystem(SpatialHash<Entity> broadphase) {
+        super(FAMILY, SystemPriority.BROADPHASE);
+        this.broadphase = broadphase;
+    }
+
+    @Override
+    public void addedToEngine(Engine engine) {
+        super.addedToEngine(engine);
+        engine.addEntityListener(FAMILY, this);
+        for (Entity entity : getEntities()) {
+            entityAdded(entity);
+        }
+    }
+
+    @Override
+    public void removedFromEngine(Engine engine) {
+        engine.removeEntityListener(this);
+        broadphase.clear();
+        super.removedFromEngine(engine);
+    }
+
+    @Override
+    protected void processEntity(Entity entity, float deltaTime) {
+        TransformComponent transform = Mappers.transform.get(entity);
+        broadphase.update(entity, transform.position.x, transform.position.y, transform.width, transform.height);
+    }
+
+    @Override
+    public void entityAdded(Entity entity) {
+        if (broadphase.contains(entity)) return;
+        TransformComponent transform = Mappers.transform.get(entity);
+        broadphase.insert(entity, Mappers.collision.get(entity).type,
+            transform.position.x, transform.position.y, transform.width, transform.height);
+    }
+
+    @Override
+    public void entityRemoved(Entity entity) {
+        broadphase.remove(entity);
+    }
+
+    public SpatialHash<Entity> getBroadphase() {
+        return broadphase;
+    }
+}
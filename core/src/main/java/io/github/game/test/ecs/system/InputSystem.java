@@ -0,0 +1,58 @@
+package io.github.game.test.ecs.system;
+
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.core.Family;
+import com.badlogic.ashley.systems.IteratingSystem;
+import io.github.game.test.ecs.Mappers;
+import io.github.game.test.ecs.SystemPriority;
+import io.github.game.test.ecs.component.AnimationComponent;
+import io.github.game.test.ecs.component.AnimationState;
+import io.github.game.test.ecs.component.InputComponent;
+import io.github.game.test.ecs.component.TransformComponent;
+import io.github.game.test.ecs.component.VelocityComponent;
+import io.github.game.test.input.Action;
+import io.github.game.test.input.ActionSource;
+
+/**
+ * Reads one action snapshot per tick and turns it into a velocity for player-controlled entities.
+ */
+public class InputSystem extends IteratingSystem {
+    private final ActionSource source;
+    private int actions;
+
+    public InputSystem(ActionSource source) {
+        super(Family.all(InputComponent.class, VelocityComponent.class, TransformComponent.class).get(),
+            SystemPriority.INPUT);
+        this.source = source;
+    }
+
+    @Override
+    public void update(float deltaTime) {
+        actions = source.poll();
+        super.update(deltaTime);
+    }
+
+    @Override
+    protected void processEntity(Entity entity, float deltaTime) {
+        InputComponent input = Mappers.input.get(entity);
+        VelocityComponent velocity = Mappers.velocity.get(entity);
+        TransformComponent transform = Mappers.transform.get(entity);
+
+        input.actions = actions;
+        int x = (Action.MOVE_RIGHT.isIn(actions) ? 1 : 0) - (Action.MOVE_LEFT.isIn(actions) ? 1 : 0);
+        int y = (Action.MOVE_UP.isIn(actions) ? 1 : 0) - (Action.MOVE_DOWN.isIn(actions) ? 1 : 0);
+        velocity.velocity.set(x * input.speedX, y * input.speedY);
+        if (x != 0) {
+            transform.flipX = x < 0;
+        }
+        AnimationComponent animation = Mappers.animation.get(entity);
+        if (animation != null && Action.ATTACK.isIn(actions)) {
+            animation.trigger = AnimationState.ATTACK;
+        }
+    }
+
+    /** Actions read at the start of the last tick. */
+    public int getActions() {
+        return actions;
+    }
+}
@@ -0,0 +1,44 @@
+package io.github.game.test.ecs.system;
+
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.core.Family;
+import com.badlogic.ashley.systems.IteratingSystem;
+import io.github.game.test.ecs.Mappers;
+import io.github.game.test.ecs.ParallelPhase;
+import io.github.game.test.ecs.SystemPriority;
+import io.github.game.test.ecs.component.BodyComponent;
+import io.github.game.test.ecs.component.TransformComponent;
+import io.github.game.test.ecs.component.VelocityComponent;
+
+/**
+ * Integrates entities without a physics body; bodies are moved by {@link PhysicsSystem}. Each entity only reads and
+ * writes its own components, so the population is integrated in parallel.
+ */
+public class MovementSystem extends IteratingSystem {
+    private final ParallelPhase phase;
+    private final ParallelPhase.EntityTask move = (entity, index, deltaTime) -> processEntity(entity, deltaTime);
+
+    public MovementSystem() {
+        this(ParallelPhase.serial());
+    }
+
+    public MovementSystem(ParallelPhase phase) {
+        super(Family.all(TransformComponent.class, VelocityComponent.class).exclude(BodyComponent.class).get(),
+            SystemPriority.MOVEMENT);
+        this.phase = phase;
+    }
+
+    @Override
+    public void update(float deltaTime) {
+        phase.forEach(getEntities(), deltaTime, move);
+    }
+
+    @Override
+    protected void processEntity(Entity entity, float deltaTime) {
+        TransformComponent transform = Mappers.transform.get(entity);
+        VelocityComponent velocity = Mappers.velocity.get(entity);
+
+        transform.previousPosition.set(transform.position);
+        transform.position.add(velocity.velocity.x * deltaTime, velocity.velocity.y * deltaTime);
+    }
+}
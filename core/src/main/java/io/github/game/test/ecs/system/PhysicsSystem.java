@@ -0,0 +1,86 @@
+package io.github.game.test.ecs.system;
+
+import com.badlogic.ashley.core.Engine;
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.core.EntityListener;
+import com.badlogic.ashley.core.EntitySystem;
+import com.badlogic.ashley.core.Family;
+import com.badlogic.ashley.utils.ImmutableArray;
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.physics.box2d.Body;
+import io.github.game.test.ecs.Mappers;
+import io.github.game.test.ecs.SystemPriority;
+import io.github.game.test.ecs.component.BodyComponent;
+import io.github.game.test.ecs.component.TransformComponent;
+import io.github.game.test.ecs.component.VelocityComponent;
+import io.github.game.test.physics.PhysicsWorld;
+
+/**
+ * Steps the physics world once per tick. Desired velocities are pushed into the bodies before the step and the
+ * resolved positions and velocities are copied back after it; the previous position is kept so rendering interpolates
+ * between physics states. Bodies of removed entities are destroyed.
+ */
+public class PhysicsSystem extends EntitySystem implements EntityListener {
+    private static final Family FAMILY = Family.all(TransformComponent.class, VelocityComponent.class, BodyComponent.class).get();
+
+    private final PhysicsWorld physics;
+    private ImmutableArray<Entity> entities;
+
+    public PhysicsSystem(PhysicsWorld physics) {
+        super(SystemPriority.PHYSICS);
+        this.physics = physics;
+    }
+
+    @Override
+    public void addedToEngine(Engine engine) {
+        entities = engine.getEntitiesFor(FAMILY);
+        engine.addEntityListener(FAMILY, this);
+    }
+
+    @Override
+    public void removedFromEngine(Engine engine) {
+        engine.removeEntityListener(this);
+        entities = null;
+    }
+
+    @Override
+    public void update(float deltaTime) {
+        for (int i = 0; i < entities.size(); i++) {
+            Entity entity = entities.get(i);
+            Body body = Mappers.body.get(entity).body;
+            Vector2 velocity = Mappers.velocity.get(entity).velocity;
+            float vx = PhysicsWorld.toMeters(velocity.x);
+            float vy = PhysicsWorld.toMeters(velocity.y);
+            Vector2 current = body.getLinearVelocity();
+            // Setting an unchanged velocity would wake a sleeping body for nothing.
+            if (current.x != vx || current.y != vy) body.setLinearVelocity(vx, vy);
+        }
+
+        physics.step(deltaTime);
+
+        for (int i = 0; i < entities.size(); i++) {
+            Entity entity = entities.get(i);
+            TransformComponent transform = Mappers.transform.get(entity);
+            Body body = Mappers.body.get(entity).body;
+            Vector2 center = body.getPosition();
+            transform.previousPosition.set(transform.position);
+            transform.position.set(PhysicsWorld.toPixels(center.x) - transform.width / 2f,
+                PhysicsWorld.toPixels(center.y) - transform.height / 2f);
+            Vector2 velocity = body.getLinearVelocity();
+            Mappers.velocity.get(entity).velocity.set(PhysicsWorld.toPixels(velocity.x), PhysicsWorld.toPixels(velocity.y));
+        }
+    }
+
+    @Override
+    public void entityAdded(Entity entity) {
+    }
+
+    @Override
+    public void entityRemoved(Entity entity) {
+        physics.destroyBody(Mappers.body.get(entity).body);
+    }
+
+    public PhysicsWorld getPhysics() {
+        return physics;
+    }
+}
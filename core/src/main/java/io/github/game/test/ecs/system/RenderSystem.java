@@ -0,0 +1,59 @@
+package io.github.game.test.ecs.system;
+
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.core.Family;
+import com.badlogic.ashley.systems.IteratingSystem;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import io.github.game.test.camera.Orthographic;
+import io.github.game.test.ecs.Mappers;
+import io.github.game.test.ecs.SystemPriority;
+import io.github.game.test.ecs.component.RenderComponent;
+import io.github.game.test.ecs.component.TransformComponent;
+
+/**
+ * Draws entities at their interpolated position, skipping those outside the camera view. It does not run as part of
+ * the simulation tick; the screen calls {@link #render(SpriteBatch, Orthographic, float)} once per frame between
+ * {@code batch.begin()} and {@code end()}.
+ */
+public class RenderSystem extends IteratingSystem {
+    private SpriteBatch batch;
+    private Orthographic camera;
+    private float alpha;
+
+    public RenderSystem() {
+        super(Family.all(TransformComponent.class, RenderComponent.class).get(), SystemPriority.RENDER);
+    }
+
+    @Override
+    public boolean checkProcessing() {
+        return false;
+    }
+
+    public void render(SpriteBatch batch, Orthographic camera, float alpha) {
+        this.batch = batch;
+        this.camera = camera;
+        this.alpha = alpha;
+        for (Entity entity : getEntities()) {
+            processEntity(entity, 0);
+        }
+        this.batch = null;
+        this.camera = null;
+    }
+
+    @Override
+    protected void processEntity(Entity entity, float deltaTime) {
+        TextureRegion region = Mappers.render.get(entity).region;
+        if (region == null) return;
+        TransformComponent transform = Mappers.transform.get(entity);
+
+        float x = transform.interpolatedX(alpha);
+        float y = transform.interpolatedY(alpha);
+        if (!camera.isVisible(x, y, transform.width, transform.height)) return;
+        if (transform.flipX) {
+            batch.draw(region, x + transform.width, y, -transform.width, transform.height);
+        } else {
+            batch.draw(region, x, y, transform.width, transform.height);
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package io.github.game.test.ecs.system;
+
+import com.badlogic.ashley.core.EntitySystem;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.ObjectMap;
+import io.github.game.test.actor.Pickup;
+import io.github.game.test.actor.TransientActor;
+import io.github.game.test.anim.FrameTable;
+import io.github.game.test.camera.Orthographic;
+import io.github.game.test.ecs.SystemPriority;
+import io.github.game.test.pool.ActorPools;
+
+/**
+ * Updates pooled {@link TransientActor}s outside of the entity model. Actors are obtained from {@link ActorPools}
+ * when spawned and handed back as soon as they expire, so steady-state gameplay allocates nothing.
+ */
+public class TransientActorSystem extends EntitySystem {
+    private final ActorPools pools;
+    private final Array<TransientActor> live = new Array<>(false, 256);
+    private final Array<TransientActor> spawned = new Array<>(false, 64);
+    private final ObjectMap<Class<?>, FrameTable> animations = new ObjectMap<>();
+    private final ObjectMap<Class<?>, FrameTable> collectedAnimations = new ObjectMap<>();
+
+    public TransientActorSystem(ActorPools pools) {
+        super(SystemPriority.TRANSIENT_ACTORS);
+        this.pools = pools;
+    }
+
+    /** Takes an actor from its pool and places it in the world. It starts updating on the next tick. */
+    public <T extends TransientActor> T spawn(Class<T> type, float x, float y) {
+        T actor = pools.obtain(type);
+        actor.spawn(x, y);
+        spawned.add(actor);
+        return actor;
+    }
+
+    /** Takes an actor from its pool and makes it live immediately, as if it had been alive before this tick. */
+    public <T extends TransientActor> T restore(Class<T> type) {
+        T actor = pools.obtain(type);
+        live.add(actor);
+        return actor;
+    }
+
+    public void setAnimation(Class<? extends TransientActor> type, FrameTable animation) {
+        animations.put(type, animation);
+    }
+
+    /** Frames a pickup plays once collected, from the moment of collection until it expires. */
+    public void setCollectedAnimation(Class<? extends Pickup> type, FrameTable animation) {
+        collectedAnimations.put(type, animation);
+    }
+
+    @Override
+    public void update(float deltaTime) {
+        for (int i = 0, n = live.size; i < n; i++) {
+            live.get(i).update(deltaTime, this);
+        }
+        for (int i = live.size - 1; i >= 0; i--) {
+            TransientActor actor = live.get(i);
+            if (actor.isExpired()) {
+                live.removeIndex(i);
+                pools.free(actor);
+            }
+        }
+        live.addAll(spawned);
+        spawned.clear();
+    }
+
+    public void render(SpriteBatch batch, Orthographic camera, float alpha) {
+        for (int i = 0, n = live.size; i < n; i++) {
+            TransientActor actor = live.get(i);
+            FrameTable animation = actor instanceof Pickup && ((Pickup) actor).collected
+                ? collectedAnimations.get(actor.getClass()) : animations.get(actor.getClass());
+            if (animation == null) continue;
+            TextureRegion region = animation.frame(actor.stateTime);
+            if (region == null) continue;
+            // Frames keep their pixel size and sit centred on the bottom of the actor's box.
+            float width = region.getRegionWidth();
+            float height = region.getRegionHeight();
+            float x = actor.interpolatedX(alpha) + (actor.width - width) / 2f;
+            float y = actor.interpolatedY(alpha);
+            if (!camera.isVisible(x, y, width, height)) continue;
+            if (actor.flipX) {
+                batch.draw(region, x + width, y, -width, height);
+            } else {
+                batch.draw(region, x, y, width, height);
+            }
+        }
+    }
+
+    /** Returns every live and pending actor to its pool. */
+    public void clear() {
+        for (TransientActor actor : live) {
+            pools.free(actor);
+        }
+        for (TransientActor actor : spawned) {
+            pools.free(actor);
+        }
+        live.clear();
+        spawned.clear();
+    }
+
+    public Array<TransientActor> getLive() {
+        return live;
+    }
+}
@@ -0,0 +1,38 @@
+package io.github.game.test.fx;
+
+import com.badlogic.gdx.graphics.g2d.ParticleEffectPool;
+import com.badlogic.gdx.utils.Pool;
+import io.github.game.test.anim.FrameTable;
+
+/**
+ * One live effect: either a sprite strip played once or a pooled particle effect.
+ */
+class Effect implements Pool.Poolable {
+    FrameTable table;
+    ParticleEffectPool.PooledEffect particle;
+    int priority;
+    /** Spawn sequence number; among equal priorities the oldest effect is evicted first. */
+    int order;
+    /** Texture the effect draws from, so effects sharing a page are submitted together. */
+    int textureKey;
+    float cullRadius;
+    float x;
+    float y;
+    float time;
+    boolean flipX;
+
+    @Override
+    public void reset() {
+        if (particle != null) particle.free();
+        table = null;
+        particle = null;
+        priority = 0;
+        order = 0;
+        textureKey = 0;
+        cullRadius = 0;
+        x = 0;
+        y = 0;
+        time = 0;
+        flipX = false;
+    }
+}
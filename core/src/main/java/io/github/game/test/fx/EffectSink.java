@@ -0,0 +1,10 @@
+package io.github.game.test.fx;
+
+/**
+ * Where the simulation reports moments worth an effect. Effects are cosmetic and never feed back into the
+ * simulation, so a headless world simply has no sink.
+ */
+public interface EffectSink {
+    /** Plays an effect whose bottom centre sits at ({@code x}, {@code y}), in pixels. */
+    void spawn(EffectType type, float x, float y, boolean flipX);
+}
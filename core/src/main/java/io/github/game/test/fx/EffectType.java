@@ -0,0 +1,26 @@
+package io.github.game.test.fx;
+
+/**
+ * Sprite-strip effects. When the live cap is reached a new effect may evict a live one of lower or equal priority,
+ * so cosmetic dust gives way to combat feedback, never the other way round.
+ */
+public enum EffectType {
+    JUMP_DUST("herochar_before_jump_dust_anim", 0.08f, 0, 0f),
+    LAND_DUST("herochar_after_jump_dust_anim", 0.08f, 0, 0f),
+    SWORD("sword_effect", 0.06f, 2, 12f),
+    HIT_SPARKLE("hit_sparkle_anim", 0.06f, 3, 0f);
+
+    /** Atlas strip holding the frames. */
+    public final String region;
+    public final float frameDuration;
+    public final int priority;
+    /** Horizontal offset from the spawn point towards the facing direction, in pixels. */
+    public final float offsetX;
+
+    EffectType(String region, float frameDuration, int priority, float offsetX) {
+        this.region = region;
+        this.frameDuration = frameDuration;
+        this.priority = priority;
+        this.offsetX = offsetX;
+    }
+}
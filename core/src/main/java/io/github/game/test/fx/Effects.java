@@ -0,0 +1,222 @@
+package io.github.game.test.fx;
+
+import com.badlogic.gdx.graphics.g2d.ParticleEffect;
+import com.badlogic.gdx.graphics.g2d.ParticleEffectPool;
+import com.badlogic.gdx.graphics.g2d.ParticleEmitter;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.ObjectMap;
+import io.github.game.test.anim.AnimationLibrary;
+import io.github.game.test.anim.FrameTable;
+import io.github.game.test.camera.Orthographic;
+import io.github.game.test.pool.TrackedPool;
+
+import java.util.Comparator;
+
+/**
+ * Cosmetic effects played on render time: sprite strips from the animation library and particle effects from
+ * {@link ParticleEffectPool}s. The number of live effects is capped; at the cap a new effect evicts the oldest live
+ * one of the lowest priority, or is dropped if every live effect matters more. Effects outside the camera view keep
+ * running but are not drawn, and the rest are submitted sorted by texture so they share batch flushes. Everything is
+ * pooled up front, so a burst of effects costs at most the cap in sprites and allocates nothing.
+ */
+public class Effects implements EffectSink {
+    public static final int DEFAULT_MAX_EFFECTS = 64;
+
+    private final int maxEffects;
+    private final FrameTable[] tables = new FrameTable[EffectType.values().length];
+    private final int[] textureKeys = new int[tables.length];
+    private final TrackedPool<Effect> pool;
+    private final Array<Effect> live;
+    private final ObjectMap<String, ParticleKind> particles = new ObjectMap<>();
+    private final Comparator<Effect> byTexture = (a, b) -> Integer.compare(a.textureKey, b.textureKey);
+    private int spawned;
+    private int evicted;
+    private int dropped;
+    private int drawn;
+
+    public Effects(AnimationLibrary library) {
+        this(library, DEFAULT_MAX_EFFECTS);
+    }
+
+    public Effects(AnimationLibrary library, int maxEffects) {
+        this.maxEffects = maxEffects;
+        for (EffectType type : EffectType.values()) {
+            FrameTable table = library.table(type.region, type.frameDuration, false);
+            tables[type.ordinal()] = table;
+            textureKeys[type.ordinal()] = textureKey(table.frame(0));
+        }
+        pool = new TrackedPool<>("effects", Effect::new, maxEffects, maxEffects);
+        pool.preallocate(maxEffects);
+        live = new Array<>(false, maxEffects);
+    }
+
+    /**
+     * Makes a particle effect available to {@link #spawnParticle(String, float, float)}. Instances are pooled from
+     * {@code prototype}; {@code cullRadius} bounds the effect around its origin, in pixels.
+     */
+    public void registerParticle(String name, ParticleEffect prototype, int priority, float cullRadius) {
+        ParticleEffectPool effectPool = new ParticleEffectPool(prototype, maxEffects, maxEffects);
+        effectPool.fill(Math.min(4, maxEffects));
+        particles.put(name, new ParticleKind(effectPool, priority, cullRadius, textureKey(prototype)));
+    }
+
+    @Override
+    public void spawn(EffectType type, float x, float y, boolean flipX) {
+        Effect effect = claim(type.priority);
+        if (effect == null) return;
+        FrameTable table = tables[type.ordinal()];
+        effect.table = table;
+        effect.textureKey = textureKeys[type.ordinal()];
+        effect.x = x + (flipX ? -type.offsetX : type.offsetX);
+        effect.y = y;
+        effect.flipX = flipX;
+        TextureRegion first = table.frame(0);
+        effect.cullRadius = first == null ? 0 : Math.max(first.getRegionWidth(), first.getRegionHeight());
+    }
+
+    /**
+     * Starts a registered particle effect at ({@code x}, {@code y}).
+     *
+     * @throws GdxRuntimeException if no particle effect of that name was registered
+     */
+    public void spawnParticle(String name, float x, float y) {
+        ParticleKind kind = particles.get(name);
+        if (kind == null) throw new GdxRuntimeException("No particle effect named " + name);
+        Effect effect = claim(kind.priority);
+        if (effect == null) return;
+        effect.particle = kind.pool.obtain();
+        effect.particle.setPosition(x, y);
+        effect.textureKey = kind.textureKey;
+        effect.cullRadius = kind.cullRadius;
+        effect.x = x;
+        effect.y = y;
+    }
+
+    /** Returns a cleared effect to fill, evicting one if the cap is reached, or null if the new one loses. */
+    private Effect claim(int priority) {
+        if (live.size < maxEffects) {
+            Effect effect = pool.obtain();
+            effect.priority = priority;
+            effect.order = spawned++;
+            live.add(effect);
+            return effect;
+        }
+        Effect victim = null;
+        for (int i = 0; i < live.size; i++) {
+            Effect effect = live.get(i);
+            if (effect.priority > priority) continue;
+            if (victim == null || effect.priority < victim.priority
+                || (effect.priority == victim.priority && effect.order < victim.order)) {
+                victim = effect;
+            }
+        }
+        if (victim == null) {
+            dropped++;
+            return null;
+        }
+        evicted++;
+        victim.reset();
+        victim.priority = priority;
+        victim.order = spawned++;
+        return victim;
+    }
+
+    /** Advances every effect by one render frame and frees the finished ones. */
+    public void update(float delta) {
+        for (int i = live.size - 1; i >= 0; i--) {
+            Effect effect = live.get(i);
+            effect.time += delta;
+            boolean finished;
+            if (effect.particle != null) {
+                effect.particle.update(delta);
+                finished = effect.particle.isComplete();
+            } else {
+                finished = effect.table.isFinished(effect.time);
+            }
+            if (finished) {
+                live.removeIndex(i);
+                pool.free(effect);
+            }
+        }
+    }
+
+    /** Draws the visible effects. The batch must already be begun. */
+    public void render(SpriteBatch batch, Orthographic camera) {
+        drawn = 0;
+        live.sort(byTexture);
+        for (int i = 0; i < live.size; i++) {
+            Effect effect = live.get(i);
+            float r = effect.cullRadius;
+            if (!camera.isVisible(effect.x - r, effect.y - r, r * 2f, r * 2f)) continue;
+            if (effect.particle != null) {
+                effect.particle.draw(batch);
+            } else {
+                TextureRegion region = effect.table.frame(effect.time);
+                if (region == null) continue;
+                float width = region.getRegionWidth();
+                float height = region.getRegionHeight();
+                float x = effect.x - width / 2f;
+                if (effect.flipX) {
+                    batch.draw(region, x + width, effect.y, -width, height);
+                } else {
+                    batch.draw(region, x, effect.y, width, height);
+                }
+            }
+            drawn++;
+        }
+    }
+
+    /** Frees every live effect. */
+    public void clear() {
+        for (int i = 0; i < live.size; i++) {
+            pool.free(live.get(i));
+        }
+        live.clear();
+    }
+
+    private static int textureKey(TextureRegion region) {
+        return region == null ? 0 : region.getTexture().getTextureObjectHandle();
+    }
+
+    private static int textureKey(ParticleEffect effect) {
+        Array<ParticleEmitter> emitters = effect.getEmitters();
+        if (emitters.size == 0 || emitters.first().getSprites().size == 0) return 0;
+        return emitters.first().getSprites().first().getTexture().getTextureObjectHandle();
+    }
+
+    public int getLive() {
+        return live.size;
+    }
+
+    /** Effects drawn by the last {@link #render(SpriteBatch, Orthographic)} call. */
+    public int getDrawn() {
+        return drawn;
+    }
+
+    /** Live effects replaced by newer ones because the cap was reached. */
+    public int getEvicted() {
+        return evicted;
+    }
+
+    /** New effects discarded because every live one had a higher priority. */
+    public int getDropped() {
+        return dropped;
+    }
+
+    private static final class ParticleKind {
+        final ParticleEffectPool pool;
+        final int priority;
+        final float cullRadius;
+        final int textureKey;
+
+        ParticleKind(ParticleEffectPool pool, int priority, float cullRadius, int textureKey) {
+            this.pool = pool;
+            this.priority = priority;
+            this.cullRadius = cullRadius;
+            this.textureKey = textureKey;
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package io.github.game.test.hud;
+
+import com.badlogic.gdx.graphics.OrthographicCamera;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.BitmapFontCache;
+import com.badlogic.gdx.graphics.g2d.Sprite;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.utils.StringBuilder;
+import io.github.game.test.render.PixelRenderTarget;
+import io.github.game.test.save.Progress;
+
+/**
+ * Retained-mode HUD drawn in screen space at the native resolution. Icons and counter text keep their vertices
+ * between frames; a counter only lays its digits out again when its value changes, so a steady frame builds no
+ * strings and only resubmits cached geometry.
+ */
+public class Hud {
+    public static final float MARGIN = 4f;
+    public static final float ROW_HEIGHT = 11f;
+    public static final float ICON_GAP = 3f;
+
+    private final OrthographicCamera camera = new OrthographicCamera();
+    private final Progress progress;
+    private final Counter coins;
+    private final Counter orbs;
+
+    public Hud(Progress progress, BitmapFont font, TextureAtlas atlas) {
+        this.progress = progress;
+        camera.setToOrtho(false, PixelRenderTarget.NATIVE_WIDTH, PixelRenderTarget.NATIVE_HEIGHT);
+        float top = PixelRenderTarget.NATIVE_HEIGHT - MARGIN;
+        coins = new Counter(font, atlas.findRegion("coins_hud"), MARGIN, top);
+        orbs = new Counter(font, atlas.findRegion("orbs_hud"), MARGIN, top - ROW_HEIGHT);
+    }
+
+    /** Draws the HUD over the current render target with its own camera. Call outside {@code batch.begin()/end()}. */
+    public void render(SpriteBatch batch) {
+        coins.update(progress.coins);
+        orbs.update(progress.orbs);
+
+        batch.setProjectionMatrix(camera.combined);
+        batch.begin();
+        coins.draw(batch);
+        orbs.draw(batch);
+        batch.end();
+    }
+
+    /** Text layouts rebuilt since the HUD was created; stays flat while the values do. */
+    public int getRebuilds() {
+        return coins.rebuilds + orbs.rebuilds;
+    }
+
+    /** An icon followed by a number, its top-left corner at ({@code x}, {@code top}). */
+    private static final class Counter {
+        final Sprite icon;
+        final BitmapFontCache text;
+        final StringBuilder digits = new StringBuilder(12);
+        final float textX;
+        final float textY;
+        int value = Integer.MIN_VALUE;
+        int rebuilds;
+
+        Counter(BitmapFont font, TextureRegion icon, float x, float top) {
+            this.icon = new Sprite(icon);
+            this.icon.setPosition(x, top - icon.getRegionHeight());
+            this.text = new BitmapFontCache(font, true);
+            this.textX = x + icon.getRegionWidth() + ICON_GAP;
+            this.textY = top;
+        }
+
+        void update(int value) {
+            if (value == this.value) return;
+            this.value = value;
+            digits.setLength(0);
+            digits.append(value);
+            text.setText(digits, textX, textY);
+            rebuilds++;
+        }
+
+        void draw(SpriteBatch batch) {
+            icon.draw(batch);
+            text.draw(batch);
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package io.github.game.test.input;
+
+/**
+ * Abstract player actions. A tick's input is a bitmask of these, built from {@link #mask}.
+ */
+public enum Action {
+    MOVE_LEFT,
+    MOVE_RIGHT,
+    MOVE_UP,
+    MOVE_DOWN,
+    JUMP,
+    ATTACK;
+
+    public final int mask = 1 << ordinal();
+
+    public boolean isIn(int actions) {
+        return (actions & mask) != 0;
+    }
+}
@@ -0,0 +1,116 @@
+package io.github.game.test.input;
+
+import com.badlogic.gdx.InputAdapter;
+import com.badlogic.gdx.controllers.Controller;
+import com.badlogic.gdx.controllers.ControllerListener;
+import com.badlogic.gdx.controllers.ControllerMapping;
+
+import java.util.Arrays;
+
+/**
+ * Builds the action bitmask from keyboard and gamepad events instead of polling keys every frame.
+ * Presses are latched until the next {@link #poll()}, so a tap shorter than a tick is never lost.
+ */
+public class ActionInput extends InputAdapter implements ActionSource, ControllerListener {
+    public static final float AXIS_DEAD_ZONE = 0.3f;
+
+    private final InputBindings bindings;
+    private final int[] held = new int[Action.values().length];
+    private int latched;
+    private int buttons;
+    private int axes;
+
+    public ActionInput(InputBindings bindings) {
+        this.bindings = bindings;
+    }
+
+    @Override
+    public int poll() {
+        int actions = latched | buttons | axes;
+        for (int i = 0; i < held.length; i++) {
+            if (held[i] > 0) actions |= 1 << i;
+        }
+        latched = 0;
+        return actions;
+    }
+
+    @Override
+    public boolean keyDown(int keycode) {
+        int action = bindings.get(keycode);
+        if (action == 0) return false;
+        held[Integer.numberOfTrailingZeros(action)]++;
+        latched |= action;
+        return true;
+    }
+
+    @Override
+    public boolean keyUp(int keycode) {
+        int action = bindings.get(keycode);
+        if (action == 0) return false;
+        int index = Integer.numberOfTrailingZeros(action);
+        if (held[index] > 0) held[index]--;
+        return true;
+    }
+
+    /** Forgets every held key and button, e.g. when the window loses focus. */
+    public void release() {
+        Arrays.fill(held, 0);
+        latched = 0;
+        buttons = 0;
+        axes = 0;
+    }
+
+    @Override
+    public void connected(Controller controller) {
+    }
+
+    @Override
+    public void disconnected(Controller controller) {
+        buttons = 0;
+        axes = 0;
+    }
+
+    @Override
+    public boolean buttonDown(Controller controller, int buttonCode) {
+        int action = buttonAction(controller.getMapping(), buttonCode);
+        buttons |= action;
+        latched |= action;
+        return action != 0;
+    }
+
+    @Override
+    public boolean buttonUp(Controller controller, int buttonCode) {
+        int action = buttonAction(controller.getMapping(), buttonCode);
+        buttons &= ~action;
+        return action != 0;
+    }
+
+    @Override
+    public boolean axisMoved(Controller controller, int axisCode, float value) {
+        ControllerMapping mapping = controller.getMapping();
+        if (axisCode == mapping.axisLeftX) {
+            axes &= ~(Action.MOVE_LEFT.mask | Action.MOVE_RIGHT.mask);
+            if (value < -AXIS_DEAD_ZONE) axes |= Action.MOVE_LEFT.mask;
+            if (value > AXIS_DEAD_ZONE) axes |= Action.MOVE_RIGHT.mask;
+            return true;
+        }
+        if (axisCode == mapping.axisLeftY) {
+            // Stick Y grows downwards.
+            axes &= ~(Action.MOVE_UP.mask | Action.MOVE_DOWN.mask);
+            if (value < -AXIS_DEAD_ZONE) axes |= Action.MOVE_UP.mask;
+            if (value > AXIS_DEAD_ZONE) axes |= Action.MOVE_DOWN.mask;
+            return true;
+        }
+        return false;
+    }
+
+    private static int buttonAction(ControllerMapping mapping, int buttonCode) {
+        if (buttonCode == mapping.buttonDpadLeft) return Action.MOVE_LEFT.mask;
+        if (buttonCode == mapping.buttonDpadRight) return Action.MOVE_RIGHT.mask;
+        if (buttonCode == mapping.buttonDpadUp) return Action.MOVE_UP.mask;
+        if (buttonCode == mapping.buttonDpadDown) return Action.MOVE_DOWN.mask;
+        if (buttonCode == mapping.buttonA) return Action.JUMP.mask;
+        if (buttonCode == mapping.buttonX) return Action.ATTACK.mask;
+        return 0;
+    }
+}
@@ -0,0 +1,11 @@
+package io.github.game.test.input;
+
+/**
+ * Supplies the action bitmask for one simulation tick.
+ */
+public interface ActionSource {
+    ActionSource NONE = () -> 0;
+
+    /** Called exactly once per tick. */
+    int poll();
+}
@@ -0,0 +1,47 @@
+package io.github.game.test.input;
+
+import com.badlogic.gdx.Input;
+import com.badlogic.gdx.utils.IntIntMap;
+
+/**
+ * Remappable key to {@link Action} table. Each key triggers one action; an action may have several keys.
+ */
+public class InputBindings {
+    private final IntIntMap keys = new IntIntMap();
+
+    public static InputBindings defaults() {
+        InputBindings bindings = new InputBindings();
+        bindings.bind(Input.Keys.A, Action.MOVE_LEFT);
+        bindings.bind(Input.Keys.LEFT, Action.MOVE_LEFT);
+        bindings.bind(Input.Keys.D, Action.MOVE_RIGHT);
+        bindings.bind(Input.Keys.RIGHT, Action.MOVE_RIGHT);
+        bindings.bind(Input.Keys.W, Action.MOVE_UP);
+        bindings.bind(Input.Keys.UP, Action.MOVE_UP);
+        bindings.bind(Input.Keys.S, Action.MOVE_DOWN);
+        bindings.bind(Input.Keys.DOWN, Action.MOVE_DOWN);
+        bindings.bind(Input.Keys.SPACE, Action.JUMP);
+        bindings.bind(Input.Keys.J, Action.ATTACK);
+        return bindings;
+    }
+
+    public void bind(int keycode, Action action) {
+        keys.put(keycode, action.mask);
+    }
+
+    public void unbind(int keycode) {
+        keys.remove(keycode, 0);
+    }
+
+    /** Removes every key bound to the action. */
+    public void clear(Action action) {
+        IntIntMap.Keys iterator = keys.keys();
+        while (iterator.hasNext) {
+            if (keys.get(iterator.next(), 0) == action.mask) iterator.remove();
+        }
+    }
+
+    /** @return the action mask bound to the key, or 0 */
+    public int get(int keycode) {
+        return keys.get(keycode, 0);
+    }
+}
@@ -0,0 +1,230 @@
+package io.github.game.test.light;
+
+import box2dLight.PointLight;
+import box2dLight.RayHandler;
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.math.GridPoint2;
+import com.badlogic.gdx.math.Matrix4;
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.physics.box2d.World;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.ObjectMap;
+import com.badlogic.gdx.utils.TimeUtils;
+import io.github.game.test.actor.TransientActor;
+import io.github.game.test.camera.Orthographic;
+import io.github.game.test.ecs.system.TransientActorSystem;
+import io.github.game.test.map.TileMap;
+import io.github.game.test.physics.PhysicsWorld;
+import io.github.game.test.render.PixelRenderTarget;
+
+import java.util.Comparator;
+
+/**
+ * Budgeted light pass on top of a box2dlights {@link RayHandler}. Level lights are static, use few rays and are only
+ * recomputed when they change; glowing actors borrow lights from a fixed pool of dynamic ones. Each frame only lights
+ * overlapping the camera view are activated, dynamic ones first, then static ones nearest the view centre, up to a
+ * cap. The cap shrinks while the light pass exceeds its frame budget and grows back when there is headroom, so the
+ * cost does not depend on how many lights a level places.
+ */
+public class Lighting implements Disposable {
+    /** Light-map size as a divisor of the native resolution; 4 gives a quarter-resolution map that blurs cheaply. */
+    public static final int DEFAULT_LIGHT_MAP_DIVISOR = 4;
+    public static final int DEFAULT_MAX_LIGHTS = 24;
+    public static final float DEFAULT_BUDGET_MILLIS = 1f;
+    public static final int MIN_LIGHTS = 4;
+    public static final int STATIC_RAYS = 16;
+    public static final int DYNAMIC_RAYS = 48;
+    public static final int DYNAMIC_LIGHTS = 16;
+
+    public static final Color TORCH_COLOR = new Color(1f, 0.6f, 0.25f, 0.85f);
+    public static final float TORCH_DISTANCE = 80f;
+    /** Height of the flame above the torch's cell, in pixels. */
+    public static final float TORCH_FLAME_HEIGHT = 20f;
+
+    private final RayHandler rayHandler;
+    private final int maxLights;
+    private final long budgetNanos;
+    private final Array<PointLight> staticLights = new Array<>();
+    private final Array<PointLight> dynamicLights = new Array<>();
+    private final Array<PointLight> candidates = new Array<>();
+    private final ObjectMap<Class<?>, Glow> glows = new ObjectMap<>();
+    private final Matrix4 projection = new Matrix4();
+    private final Comparator<PointLight> nearestFirst = (a, b) -> Float.compare(distance2(a), distance2(b));
+
+    private float centerX;
+    private float centerY;
+    private int lightCap;
+    private int activeLights;
+    private long lastNanos;
+
+    public Lighting(World world) {
+        this(world, DEFAULT_LIGHT_MAP_DIVISOR, DEFAULT_MAX_LIGHTS, DEFAULT_BUDGET_MILLIS);
+    }
+
+    /**
+     * @param lightMapDivisor light-map resolution as a fraction of the native resolution
+     * @param maxLights       most lights active in one frame
+     * @param budgetMillis    CPU time the light pass may take per frame
+     */
+    public Lighting(World world, int lightMapDivisor, int maxLights, float budgetMillis) {
+        this.maxLights = maxLights;
+        this.budgetNanos = (long) (budgetMillis * 1_000_000L);
+        lightCap = maxLights;
+
+        rayHandler = new RayHandler(world,
+            PixelRenderTarget.NATIVE_WIDTH / lightMapDivisor, PixelRenderTarget.NATIVE_HEIGHT / lightMapDivisor);
+        rayHandler.setAmbientLight(0.3f, 0.3f, 0.4f, 1f);
+        rayHandler.setBlurNum(1);
+        // The light map is drawn into the native render target, not the back buffer.
+        rayHandler.useCustomViewport(0, 0, PixelRenderTarget.NATIVE_WIDTH, PixelRenderTarget.NATIVE_HEIGHT);
+
+        for (int i = 0; i < DYNAMIC_LIGHTS; i++) {
+            PointLight light = new PointLight(rayHandler, DYNAMIC_RAYS, Color.WHITE, 1f, 0f, 0f);
+            light.setActive(false);
+            dynamicLights.add(light);
+        }
+    }
+
+    /** Adds a light that never moves. Position and distance are in pixels. */
+    public PointLight addStaticLight(float x, float y, Color color, float distance) {
+        PointLight light = new PointLight(rayHandler, STATIC_RAYS, color, PhysicsWorld.toMeters(distance),
+            PhysicsWorld.toMeters(x), PhysicsWorld.toMeters(y));
+        light.setStaticLight(true);
+        light.setActive(false);
+        staticLights.add(light);
+        return light;
+    }
+
+    /** Adds a static light at the flame of every torch in the map. */
+    public void addTorches(TileMap map) {
+        int tileSize = map.getTileSize();
+        for (GridPoint2 torch : map.getTorches()) {
+            addStaticLight(torch.x * tileSize + tileSize / 2f, torch.y * tileSize + TORCH_FLAME_HEIGHT,
+                TORCH_COLOR, TORCH_DISTANCE);
+        }
+    }
+
+    /** Makes every live actor of the given type glow. Distance is in pixels. */
+    public void setGlow(Class<? extends TransientActor> type, Color color, float distance) {
+        glows.put(type, new Glow(color, distance));
+    }
+
+    /**
+     * Picks this frame's lights and draws the light map over the current render target. Call after the world has
+     * been drawn, outside {@code batch.begin()/end()}.
+     */
+    public void render(Orthographic camera, TransientActorSystem actors, float alpha) {
+        long start = TimeUtils.nanoTime();
+        Rectangle view = camera.getVisibleArea();
+        centerX = PhysicsWorld.toMeters(view.x + view.width / 2f);
+        centerY = PhysicsWorld.toMeters(view.y + view.height / 2f);
+
+        activeLights = assignDynamicLights(view, actors, alpha);
+        activeLights += activateStaticLights(view, lightCap - activeLights);
+
+        projection.set(camera.getCamera().combined).scl(PhysicsWorld.PIXELS_PER_METER);
+        rayHandler.setCombinedMatrix(projection, centerX, centerY,
+            PhysicsWorld.toMeters(view.width), PhysicsWorld.toMeters(view.height));
+        rayHandler.updateAndRender();
+
+        lastNanos = TimeUtils.nanoTime() - start;
+        if (lastNanos > budgetNanos) {
+            lightCap = Math.max(MIN_LIGHTS, lightCap - 1);
+        } else if (lastNanos < budgetNanos * 3 / 4) {
+            lightCap = Math.min(maxLights, lightCap + 1);
+        }
+    }
+
+    private int assignDynamicLights(Rectangle view, TransientActorSystem actors, float alpha) {
+        int limit = Math.min(dynamicLights.size, lightCap);
+        int used = 0;
+        Array<TransientActor> live = actors.getLive();
+        for (int i = 0; i < live.size && used < limit; i++) {
+            TransientActor actor = live.get(i);
+            Glow glow = glows.get(actor.getClass());
+            if (glow == null) continue;
+            float x = actor.interpolatedX(alpha) + actor.width / 2f;
+            float y = actor.interpolatedY(alpha) + actor.height / 2f;
+            if (!overlaps(view, x, y, glow.distance)) continue;
+
+            PointLight light = dynamicLights.get(used++);
+            light.setColor(glow.color);
+            light.setDistance(PhysicsWorld.toMeters(glow.distance));
+            light.setPosition(PhysicsWorld.toMeters(x), PhysicsWorld.toMeters(y));
+            light.setActive(true);
+        }
+        for (int i = used; i < dynamicLights.size; i++) {
+            PointLight light = dynamicLights.get(i);
+            if (light.isActive()) light.setActive(false);
+        }
+        return used;
+    }
+
+    private int activateStaticLights(Rectangle view, int limit) {
+        candidates.clear();
+        for (int i = 0; i < staticLights.size; i++) {
+            PointLight light = staticLights.get(i);
+            float distance = PhysicsWorld.toPixels(light.getDistance());
+            if (overlaps(view, PhysicsWorld.toPixels(light.getX()), PhysicsWorld.toPixels(light.getY()), distance)) {
+                candidates.add(light);
+            } else if (light.isActive()) {
+                light.setActive(false);
+            }
+        }
+        if (candidates.size > limit) candidates.sort(nearestFirst);
+        int active = Math.min(Math.max(limit, 0), candidates.size);
+        for (int i = 0; i < candidates.size; i++) {
+            PointLight light = candidates.get(i);
+            boolean on = i < active;
+            if (light.isActive() != on) light.setActive(on);
+        }
+        return active;
+    }
+
+    private static boolean overlaps(Rectangle view, float x, float y, float radius) {
+        return x + radius > view.x && x - radius < view.x + view.width
+            && y + radius > view.y && y - radius < view.y + view.height;
+    }
+
+    private float distance2(PointLight light) {
+        float dx = light.getX() - centerX;
+        float dy = light.getY() - centerY;
+        return dx * dx + dy * dy;
+    }
+
+    /** Lights active in the last frame. */
+    public int getActiveLights() {
+        return activeLights;
+    }
+
+    /** Current light cap after budget adjustments. */
+    public int getLightCap() {
+        return lightCap;
+    }
+
+    /** CPU time of the last light pass. */
+    public float getLastMillis() {
+        return lastNanos / 1e6f;
+    }
+
+    public RayHandler getRayHandler() {
+        return rayHandler;
+    }
+
+    @Override
+    public void dispose() {
+        // Also disposes every light created on it.
+        rayHandler.dispose();
+    }
+
+    private static final class Glow {
+        final Color color;
+        final float distance;
+
+        Glow(Color color, float distance) {
+            this.color = color;
+            this.distance = distance;
+        }
+    }
+}
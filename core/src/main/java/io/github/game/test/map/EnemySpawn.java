@@ -0,0 +1,16 @@
+package io.github.game.test.map;
+
+/**
+ * Enemy placed by a level file, on the bottom of tile ({@link #x}, {@link #y}).
+ */
+public class EnemySpawn {
+    public final String type;
+    public final int x;
+    public final int y;
+
+    public EnemySpawn(String type, int x, int y) {
+        this.type = type;
+        this.x = x;
+        this.y = y;
+    }
+}
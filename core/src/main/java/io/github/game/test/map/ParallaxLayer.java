@@ -0,0 +1,37 @@
+package io.github.game.test.map;
+
+/**
+ * One scrolling backdrop of a level. A factor of 0 keeps the layer fixed on screen, 1 moves it with the world and
+ * anything above 1 scrolls faster than the world, which suits foreground layers.
+ */
+public class ParallaxLayer {
+    private final String texture;
+    private final float factorX;
+    private final float factorY;
+    private final boolean foreground;
+
+    public ParallaxLayer(String texture, float factorX, float factorY, boolean foreground) {
+        this.texture = texture;
+        this.factorX = factorX;
+        this.factorY = factorY;
+        this.foreground = foreground;
+    }
+
+    /** Internal path of the layer's own texture; it is tiled edge to edge, so it stays out of the atlas. */
+    public String getTexture() {
+        return texture;
+    }
+
+    public float getFactorX() {
+        return factorX;
+    }
+
+    public float getFactorY() {
+        return factorY;
+    }
+
+    /** True when the layer is drawn over the entities instead of behind the tiles. */
+    public boolean isForeground() {
+        return foreground;
+    }
+}
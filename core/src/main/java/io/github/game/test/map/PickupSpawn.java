@@ -0,0 +1,17 @@
+package io.github.game.test.map;
+
+/**
+ * Pickup placed by a level file, on the bottom of tile ({@link #x}, {@link #y}). {@link #type} is {@code coin} or
+ * {@code orb}.
+ */
+public class PickupSpawn {
+    public final String type;
+    public final int x;
+    public final int y;
+
+    public PickupSpawn(String type, int x, int y) {
+        this.type = type;
+        this.x = x;
+        this.y = y;
+    }
+}
@@ -0,0 +1,156 @@
+package io.github.game.test.map;
+
+import com.badlogic.gdx.math.GridPoint2;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.ObjectIntMap;
+
+import java.util.Arrays;
+
+/**
+ * Grid of tile ids for one level. Cell (0, 0) is the bottom-left tile; {@link #EMPTY} marks cells without a tile.
+ * A streamed level holds no tiles itself: its cells live in region files loaded around the player, see
+ * {@link #isStreamed()}.
+ */
+public class TileMap {
+    public static final int EMPTY = -1;
+
+    private final String tileset;
+    private final int tileSize;
+    private final int width;
+    private final int height;
+    private final int[] tiles;
+    private String regionDirectory;
+    private int regionWidth;
+    private int regionHeight;
+    private final ObjectIntMap<String> poolSizes = new ObjectIntMap<>();
+    private final Array<ParallaxLayer> parallaxLayers = new Array<>();
+    private final Array<GridPoint2> torches = new Array<>();
+    private final Array<EnemySpawn> enemies = new Array<>();
+    private final Array<PickupSpawn> pickups = new Array<>();
+    private final Array<GridPoint2> checkpoints = new Array<>();
+    private int spawnX;
+    private int spawnY;
+
+    public TileMap(String tileset, int tileSize, int width, int height) {
+        this(tileset, tileSize, width, height, true);
+    }
+
+    private TileMap(String tileset, int tileSize, int width, int height, boolean withTiles) {
+        this.tileset = tileset;
+        this.tileSize = tileSize;
+        this.width = width;
+        this.height = height;
+        this.tiles = withTiles ? new int[width * height] : null;
+        if (tiles != null) Arrays.fill(tiles, EMPTY);
+    }
+
+    /**
+     * Creates a level whose tiles are split into {@code regionWidth} x {@code regionHeight} region files named
+     * {@code <directory>/<x>_<y>.txt}.
+     */
+    public static TileMap streamed(String tileset, int tileSize, int width, int height, String directory,
+                                   int regionWidth, int regionHeight) {
+        TileMap map = new TileMap(tileset, tileSize, width, height, false);
+        map.regionDirectory = directory;
+        map.regionWidth = regionWidth;
+        map.regionHeight = regionHeight;
+        return map;
+    }
+
+    public int get(int x, int y) {
+        if (tiles == null || x < 0 || y < 0 || x >= width || y >= height) return EMPTY;
+        return tiles[y * width + x];
+    }
+
+    public void set(int x, int y, int tile) {
+        tiles[y * width + x] = tile;
+    }
+
+    public boolean isSolid(int x, int y) {
+        return get(x, y) != EMPTY;
+    }
+
+    public void setSpawn(int x, int y) {
+        spawnX = x;
+        spawnY = y;
+    }
+
+    /** Player spawn point in world units. */
+    public float getSpawnX() {
+        return spawnX * tileSize;
+    }
+
+    public float getSpawnY() {
+        return spawnY * tileSize;
+    }
+
+    /** Number of pooled actors to preallocate per pool name before the level starts. */
+    public ObjectIntMap<String> getPoolSizes() {
+        return poolSizes;
+    }
+
+    /** Backdrop layers in draw order, back to front. */
+    public Array<ParallaxLayer> getParallaxLayers() {
+        return parallaxLayers;
+    }
+
+    /** Cells holding a torch, which stands on the bottom of its cell. */
+    public Array<GridPoint2> getTorches() {
+        return torches;
+    }
+
+    public Array<EnemySpawn> getEnemies() {
+        return enemies;
+    }
+
+    public Array<PickupSpawn> getPickups() {
+        return pickups;
+    }
+
+    /** Cells that become the save point when the player touches them. */
+    public Array<GridPoint2> getCheckpoints() {
+        return checkpoints;
+    }
+
+    /** Name of the atlas region holding the tileset. */
+    public String getTileset() {
+        return tileset;
+    }
+
+    public int getTileSize() {
+        return tileSize;
+    }
+
+    public int getWidth() {
+        return width;
+    }
+
+    public int getHeight() {
+        return height;
+    }
+
+    public float getWorldWidth() {
+        return width * tileSize;
+    }
+
+    public float getWorldHeight() {
+        return height * tileSize;
+    }
+
+    public boolean isStreamed() {
+        return regionDirectory != null;
+    }
+
+    public String getRegionDirectory() {
+        return regionDirectory;
+    }
+
+    /** Region size in tiles; 0 unless streamed. */
+    public int getRegionWidth() {
+        return regionWidth;
+    }
+
+    public int getRegionHeight() {
+        return regionHeight;
+    }
+}
@@ -0,0 +1,66 @@
+package io.github.game.test.map;
+
+import com.badlogic.gdx.assets.AssetDescriptor;
+import com.badlogic.gdx.assets.AssetLoaderParameters;
+import com.badlogic.gdx.assets.AssetManager;
+import com.badlogic.gdx.assets.loaders.AsynchronousAssetLoader;
+import com.badlogic.gdx.assets.loaders.FileHandleResolver;
+import com.badlogic.gdx.assets.loaders.TextureLoader;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.ObjectMap;
+
+/**
+ * Lets the {@link AssetManager} load level files. Dependencies come from the header alone; the full parse happens on
+ * the loader thread. The level's parallax textures are declared as dependencies, so they load with it and unload
+ * with it. Parsed maps wait for {@code loadSync} keyed by file name, so several levels can load at once.
+ */
+public class TileMapAssetLoader extends AsynchronousAssetLoader<TileMap, TileMapAssetLoader.TileMapParameter> {
+    private final ObjectMap<String, TileMap> parsed = new ObjectMap<>();
+
+    public TileMapAssetLoader(FileHandleResolver resolver) {
+        super(resolver);
+    }
+
+    @Override
+    public void loadAsync(AssetManager manager, String fileName, FileHandle file, TileMapParameter parameter) {
+        TileMap map = TileMapLoader.load(file);
+        synchronized (parsed) {
+            parsed.put(fileName, map);
+        }
+    }
+
+    @Override
+    public TileMap loadSync(AssetManager manager, String fileName, FileHandle file, TileMapParameter parameter) {
+        synchronized (parsed) {
+            return parsed.remove(fileName);
+        }
+    }
+
+    @Override
+    @SuppressWarnings("rawtypes")
+    public Array<AssetDescriptor> getDependencies(String fileName, FileHandle file, TileMapParameter parameter) {
+        Array<ParallaxLayer> layers = TileMapLoader.loadHeader(file).getParallaxLayers();
+        if (layers.isEmpty()) return null;
+
+        Array<AssetDescriptor> dependencies = new Array<>();
+        for (ParallaxLayer layer : layers) {
+            dependencies.add(new AssetDescriptor<>(layer.getTexture(), Texture.class, parallaxParameter()));
+        }
+        return dependencies;
+    }
+
+    private static TextureLoader.TextureParameter parallaxParameter() {
+        TextureLoader.TextureParameter parameter = new TextureLoader.TextureParameter();
+        parameter.minFilter = Texture.TextureFilter.Nearest;
+        parameter.magFilter = Texture.TextureFilter.Nearest;
+        // Layer textures are not powers of two, which GLES2 can't repeat; ParallaxBackground tiles them with quads.
+        parameter.wrapU = Texture.TextureWrap.ClampToEdge;
+        parameter.wrapV = Texture.TextureWrap.ClampToEdge;
+        return parameter;
+    }
+
+    public static class TileMapParameter extends AssetLoaderParameters<TileMap> {
+    }
+}
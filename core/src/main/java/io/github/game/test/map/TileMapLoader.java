@@ -0,0 +1,164 @@
+package io.github.game.test.map;
+
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.math.GridPoint2;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.ObjectIntMap;
+
+/**
+ * Reads the plain-text level format found in {@code assets/levels}:
+ * <pre>
+ * tileset tileset   (atlas region name)
+ * tilesize 16
+ * size 128 16
+ * spawn 3 3      (optional: player spawn tile)
+ * pool bomb 16   (optional, repeatable: actors to preallocate)
+ * parallax back map/tiles_background/bg_0.png 0.2 0   (optional, repeatable: back|front, texture, factors)
+ * torch 8 3     (optional, repeatable: tile holding a lit torch)
+ * enemy goblin 30 3   (optional, repeatable: enemy type and tile)
+ * pickup coin 12 4   (optional, repeatable: coin or orb and tile)
+ * checkpoint 60 3   (optional, repeatable: tile that becomes the save point when touched)
+ * data
+ * .,.,1,1,...   (one line per row, top row first, '.' for empty)
+ * </pre>
+ * A streamed level replaces the data section with {@code regions levels/level1 32 16}: the directory holding its
+ * region files and their size in tiles. Each region file is itself a level in this format.
+ * Lines starting with {@code #} are comments.
+ */
+public class TileMapLoader {
+
+    private TileMapLoader() {
+    }
+
+    public static TileMap load(FileHandle file) {
+        return parse(file.readString("UTF-8"), file.path());
+    }
+
+    /** Reads only the header: the returned map has its settings and placements but no tiles. */
+    public static TileMap loadHeader(FileHandle file) {
+        return parse(file.readString("UTF-8"), file.path(), false);
+    }
+
+    public static TileMap parse(String text, String source) {
+        return parse(text, source, true);
+    }
+
+    private static TileMap parse(String text, String source, boolean withTiles) {
+        String[] lines = text.split("\r?\n");
+        String tileset = null;
+        int tileSize = 0;
+        int width = 0;
+        int height = 0;
+        int index = 0;
+        ObjectIntMap<String> poolSizes = new ObjectIntMap<>();
+        Array<ParallaxLayer> parallaxLayers = new Array<>();
+        Array<GridPoint2> torches = new Array<>();
+        Array<EnemySpawn> enemies = new Array<>();
+        Array<PickupSpawn> pickups = new Array<>();
+        Array<GridPoint2> checkpoints = new Array<>();
+        int spawnX = 0;
+        int spawnY = 0;
+        String regionDirectory = null;
+        int regionWidth = 0;
+        int regionHeight = 0;
+
+        for (; index < lines.length; index++) {
+            String line = lines[index].trim();
+            if (line.isEmpty() || line.startsWith("#")) continue;
+            if (line.equals("data")) {
+                index++;
+                break;
+            }
+            String[] parts = line.split("\\s+");
+            switch (parts[0]) {
+                case "tileset":
+                    tileset = parts[1];
+                    break;
+                case "tilesize":
+                    tileSize = Integer.parseInt(parts[1]);
+                    break;
+                case "size":
+                    width = Integer.parseInt(parts[1]);
+                    height = Integer.parseInt(parts[2]);
+                    break;
+                case "spawn":
+                    spawnX = Integer.parseInt(parts[1]);
+                    spawnY = Integer.parseInt(parts[2]);
+                    break;
+                case "pool":
+                    poolSizes.put(parts[1], Integer.parseInt(parts[2]));
+                    break;
+                case "parallax":
+                    if (!parts[1].equals("back") && !parts[1].equals("front")) {
+                        throw new GdxRuntimeException(source + ": parallax layer must be 'back' or 'front' on line " + (index + 1));
+                    }
+                    parallaxLayers.add(new ParallaxLayer(parts[2], Float.parseFloat(parts[3]), Float.parseFloat(parts[4]),
+                        parts[1].equals("front")));
+                    break;
+                case "regions":
+                    regionDirectory = parts[1];
+                    regionWidth = Integer.parseInt(parts[2]);
+                    regionHeight = Integer.parseInt(parts[3]);
+                    break;
+                case "torch":
+                    torches.add(new GridPoint2(Integer.parseInt(parts[1]), Integer.parseInt(parts[2])));
+                    break;
+                case "enemy":
+                    enemies.add(new EnemySpawn(parts[1], Integer.parseInt(parts[2]), Integer.parseInt(parts[3])));
+                    break;
+                case "pickup":
+                    if (!parts[1].equals("coin") && !parts[1].equals("orb")) {
+                        throw new GdxRuntimeException(source + ": pickup must be 'coin' or 'orb' on line " + (index + 1));
+                    }
+                    pickups.add(new PickupSpawn(parts[1], Integer.parseInt(parts[2]), Integer.parseInt(parts[3])));
+                    break;
+                case "checkpoint":
+                    checkpoints.add(new GridPoint2(Integer.parseInt(parts[1]), Integer.parseInt(parts[2])));
+                    break;
+                default:
+                    throw new GdxRuntimeException(source + ": unknown key '" + parts[0] + "' on line " + (index + 1));
+            }
+        }
+        if (tileset == null || tileSize <= 0 || width <= 0 || height <= 0) {
+            throw new GdxRuntimeException(source + ": missing tileset, tilesize or size header");
+        }
+
+        TileMap map = regionDirectory != null
+            ? TileMap.streamed(tileset, tileSize, width, height, regionDirectory, regionWidth, regionHeight)
+            : new TileMap(tileset, tileSize, width, height);
+        map.getPoolSizes().putAll(poolSizes);
+        map.getParallaxLayers().addAll(parallaxLayers);
+        map.getTorches().addAll(torches);
+        map.getEnemies().addAll(enemies);
+        map.getPickups().addAll(pickups);
+        map.getCheckpoints().addAll(checkpoints);
+        map.setSpawn(spawnX, spawnY);
+        if (map.isStreamed()) {
+            if (regionWidth <= 0 || regionHeight <= 0) {
+                throw new GdxRuntimeException(source + ": region size must be positive");
+            }
+            return map;
+        }
+        if (!withTiles) return map;
+        int row = 0;
+        for (; index < lines.length && row < height; index++) {
+            String line = lines[index].trim();
+            if (line.isEmpty() || line.startsWith("#")) continue;
+            String[] cells = line.split(",");
+            if (cells.length != width) {
+                throw new GdxRuntimeException(source + ": row " + row + " has " + cells.length + " cells, expected " + width);
+            }
+            int y = height - 1 - row;
+            for (int x = 0; x < width; x++) {
+                String cell = cells[x].trim();
+                map.set(x, y, cell.equals(".") ? TileMap.EMPTY : Integer.parseInt(cell));
+            }
+            row++;
+        }
+        if (row != height) {
+            throw new GdxRuntimeException(source + ": expected " + height + " rows, found " + row);
+        }
+        return map;
+    }
+}
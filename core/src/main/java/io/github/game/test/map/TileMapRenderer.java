@@ -0,0 +1,160 @@
+package io.github.game.test.map;
+
+import com.badlogic.gdx.graphics.g2d.SpriteCache;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.utils.Disposable;
+import io.github.game.test.camera.Orthographic;
+
+import java.util.Arrays;
+
+/**
+ * Draws the static tiles of a {@link TileMap}. The map is cut into square chunks whose geometry is uploaded once
+ * into a {@link SpriteCache}; each frame only the chunks overlapping the camera view are drawn, one call per chunk.
+ * Chunks can be uploaded a few at a time with {@link #buildChunks(int)}; unbuilt chunks are simply not drawn.
+ */
+public class TileMapRenderer implements Disposable {
+    public static final int DEFAULT_CHUNK_SIZE = 16;
+    private static final int NO_CACHE = -1;
+
+    private final TileMap map;
+    private final TextureRegion[] tiles;
+    private final int chunkSize;
+    private final int chunksX;
+    private final int chunksY;
+    private final int[] cacheIds;
+    private final SpriteCache cache;
+    private final float originX;
+    private final float originY;
+    private int builtChunks;
+    private int drawnChunks;
+
+    public TileMapRenderer(TileMap map, TextureRegion tileset) {
+        this(map, tileset, DEFAULT_CHUNK_SIZE);
+    }
+
+    public TileMapRenderer(TileMap map, TextureRegion tileset, int chunkSize) {
+        this(map, tileset, chunkSize, 0, 0);
+        buildChunks(cacheIds.length);
+    }
+
+    /**
+     * Creates a renderer whose map starts at ({@code originX}, {@code originY}) in world units, with no chunk built
+     * yet.
+     */
+    public TileMapRenderer(TileMap map, TextureRegion tileset, int chunkSize, float originX, float originY) {
+        this.map = map;
+        this.chunkSize = chunkSize;
+        this.originX = originX;
+        this.originY = originY;
+        this.tiles = split(tileset, map.getTileSize());
+        this.chunksX = (map.getWidth() + chunkSize - 1) / chunkSize;
+        this.chunksY = (map.getHeight() + chunkSize - 1) / chunkSize;
+        this.cacheIds = new int[chunksX * chunksY];
+        Arrays.fill(cacheIds, NO_CACHE);
+
+        int count = countTiles();
+        cache = new SpriteCache(Math.max(1, count), count <= 8191);
+    }
+
+    private static TextureRegion[] split(TextureRegion tileset, int tileSize) {
+        TextureRegion[][] grid = tileset.split(tileSize, tileSize);
+        TextureRegion[] regions = new TextureRegion[grid.length * grid[0].length];
+        int i = 0;
+        for (TextureRegion[] row : grid) {
+            for (TextureRegion region : row) {
+                regions[i++] = region;
+            }
+        }
+        return regions;
+    }
+
+    private int countTiles() {
+        int count = 0;
+        for (int y = 0; y < map.getHeight(); y++) {
+            for (int x = 0; x < map.getWidth(); x++) {
+                if (map.isSolid(x, y)) count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Uploads up to {@code max} more chunks.
+     *
+     * @return true once every chunk is built
+     */
+    public boolean buildChunks(int max) {
+        float size = map.getTileSize();
+        for (int i = 0; i < max && builtChunks < cacheIds.length; i++, builtChunks++) {
+            int cx = builtChunks % chunksX;
+            int cy = builtChunks / chunksX;
+            int x0 = cx * chunkSize;
+            int y0 = cy * chunkSize;
+            int x1 = Math.min(x0 + chunkSize, map.getWidth());
+            int y1 = Math.min(y0 + chunkSize, map.getHeight());
+            int added = 0;
+
+            cache.beginCache();
+            for (int y = y0; y < y1; y++) {
+                for (int x = x0; x < x1; x++) {
+                    int tile = map.get(x, y);
+                    if (tile == TileMap.EMPTY || tile >= tiles.length) continue;
+                    cache.add(tiles[tile], originX + x * size, originY + y * size, size, size);
+                    added++;
+                }
+            }
+            int id = cache.endCache();
+            cacheIds[builtChunks] = added > 0 ? id : NO_CACHE;
+        }
+        return isBuilt();
+    }
+
+    public boolean isBuilt() {
+        return builtChunks == cacheIds.length;
+    }
+
+    public int getBuiltChunks() {
+        return builtChunks;
+    }
+
+    public void render(Orthographic camera) {
+        drawnChunks = 0;
+        if (builtChunks == 0) return;
+        Rectangle view = camera.getVisibleArea();
+        float chunkWorld = chunkSize * map.getTileSize();
+        int x0 = Math.max(0, MathUtils.floor((view.x - originX) / chunkWorld));
+        int y0 = Math.max(0, MathUtils.floor((view.y - originY) / chunkWorld));
+        int x1 = Math.min(chunksX - 1, MathUtils.floor((view.x + view.width - originX) / chunkWorld));
+        int y1 = Math.min(chunksY - 1, MathUtils.floor((view.y + view.height - originY) / chunkWorld));
+
+        if (x0 > x1 || y0 > y1) return;
+
+        cache.setProjectionMatrix(camera.getCamera().combined);
+        cache.begin();
+        for (int cy = y0; cy <= y1; cy++) {
+            for (int cx = x0; cx <= x1; cx++) {
+                int id = cacheIds[cy * chunksX + cx];
+                if (id == NO_CACHE) continue;
+                cache.draw(id);
+                drawnChunks++;
+            }
+        }
+        cache.end();
+    }
+
+    /** Number of chunks submitted by the last {@link #render(Orthographic)} call. */
+    public int getDrawnChunks() {
+        return drawnChunks;
+    }
+
+    public TileMap getMap() {
+        return map;
+    }
+
+    @Override
+    public void dispose() {
+        cache.dispose();
+    }
+}
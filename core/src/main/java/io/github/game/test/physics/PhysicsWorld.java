@@ -0,0 +1,111 @@
+package io.github.game.test.physics;
+
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.physics.box2d.Body;
+import com.badlogic.gdx.physics.box2d.BodyDef;
+import com.badlogic.gdx.physics.box2d.Box2D;
+import com.badlogic.gdx.physics.box2d.FixtureDef;
+import com.badlogic.gdx.physics.box2d.PolygonShape;
+import com.badlogic.gdx.physics.box2d.World;
+import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.TimeUtils;
+
+/**
+ * Owns the Box2D {@link World} and steps it once per simulation tick. Box2D works in meters, the rest of the game in
+ * pixels: one tile of {@link #PIXELS_PER_METER} pixels is one meter, which keeps bodies in the size range the solver
+ * is tuned for. Keeps timing statistics for every step.
+ */
+public class PhysicsWorld implements Disposable {
+    public static final float PIXELS_PER_METER = 16f;
+    public static final float GRAVITY = -30f;
+    public static final int VELOCITY_ITERATIONS = 6;
+    public static final int POSITION_ITERATIONS = 2;
+
+    private final World world;
+    private long lastStepNanos;
+    private long maxStepNanos;
+    private long totalStepNanos;
+    private long steps;
+
+    public PhysicsWorld() {
+        Box2D.init();
+        // Sleeping lets resting bodies drop out of the solver until something touches them.
+        world = new World(new Vector2(0, GRAVITY), true);
+    }
+
+    public void step(float step) {
+        long start = TimeUtils.nanoTime();
+        world.step(step, VELOCITY_ITERATIONS, POSITION_ITERATIONS);
+        lastStepNanos = TimeUtils.nanoTime() - start;
+        maxStepNanos = Math.max(maxStepNanos, lastStepNanos);
+        totalStepNanos += lastStepNanos;
+        steps++;
+    }
+
+    /**
+     * Creates a dynamic box that never rotates, positioned by its bottom-left corner like a transform.
+     *
+     * @param gravityScale 0 for bodies whose vertical speed is driven directly, e.g. by input
+     */
+    public Body createBox(float x, float y, float width, float height, float gravityScale) {
+        BodyDef def = new BodyDef();
+        def.type = BodyDef.BodyType.DynamicBody;
+        def.fixedRotation = true;
+        def.allowSleep = true;
+        def.gravityScale = gravityScale;
+        def.position.set(toMeters(x + width / 2f), toMeters(y + height / 2f));
+        Body body = world.createBody(def);
+
+        PolygonShape shape = new PolygonShape();
+        shape.setAsBox(toMeters(width / 2f), toMeters(height / 2f));
+        FixtureDef fixture = new FixtureDef();
+        fixture.shape = shape;
+        fixture.density = 1f;
+        fixture.friction = 0f;
+        body.createFixture(fixture);
+        shape.dispose();
+        return body;
+    }
+
+    public void destroyBody(Body body) {
+        world.destroyBody(body);
+    }
+
+    public World getWorld() {
+        return world;
+    }
+
+    public long getLastStepNanos() {
+        return lastStepNanos;
+    }
+
+    public long getMaxStepNanos() {
+        return maxStepNanos;
+    }
+
+    /** Sum over every step so far; callers diff two readings to time a frame. */
+    public long getTotalStepNanos() {
+        return totalStepNanos;
+    }
+
+    public long getSteps() {
+        return steps;
+    }
+
+    public double getAverageStepMillis() {
+        return steps == 0 ? 0 : totalStepNanos / 1e6 / steps;
+    }
+
+    public static float toMeters(float pixels) {
+        return pixels / PIXELS_PER_METER;
+    }
+
+    public static float toPixels(float meters) {
+        return meters * PIXELS_PER_METER;
+    }
+
+    @Override
+    public void dispose() {
+        world.dispose();
+    }
+}
@@ -0,0 +1,80 @@
+package io.github.game.test.physics;
+
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.physics.box2d.Body;
+import com.badlogic.gdx.physics.box2d.BodyDef;
+import com.badlogic.gdx.physics.box2d.PolygonShape;
+import io.github.game.test.map.TileMap;
+
+/**
+ * Builds the static level collision from the solid cells of a {@link TileMap}. Cells are merged greedily into the
+ * largest rectangles that grow right then up, so a level ends up with tens of box fixtures instead of one per tile.
+ */
+public final class TileColliders {
+
+    private TileColliders() {
+    }
+
+    /**
+     * Adds one static body holding a box fixture per merged rectangle.
+     *
+     * @return the number of fixtures created
+     */
+    public static int build(TileMap map, PhysicsWorld physics) {
+        return build(map, physics, 0, 0).getFixtureList().size;
+    }
+
+    /**
+     * Same as {@link #build(TileMap, PhysicsWorld)} for a map placed at ({@code originX}, {@code originY}) pixels,
+     * such as a streamed region.
+     *
+     * @return the static body, to be destroyed when the map goes away
+     */
+    public static Body build(TileMap map, PhysicsWorld physics, float originX, float originY) {
+        int width = map.getWidth();
+        int height = map.getHeight();
+        float tile = PhysicsWorld.toMeters(map.getTileSize());
+        boolean[] merged = new boolean[width * height];
+
+        BodyDef def = new BodyDef();
+        def.type = BodyDef.BodyType.StaticBody;
+        def.position.set(PhysicsWorld.toMeters(originX), PhysicsWorld.toMeters(originY));
+        Body body = physics.getWorld().createBody(def);
+        PolygonShape shape = new PolygonShape();
+        Vector2 center = new Vector2();
+
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                if (!isUnmerged(map, merged, x, y)) continue;
+
+                int right = x + 1;
+                while (right < width && isUnmerged(map, merged, right, y)) right++;
+                int top = y + 1;
+                while (top < height && isRowUnmerged(map, merged, x, right, top)) top++;
+
+                for (int my = y; my < top; my++) {
+                    for (int mx = x; mx < right; mx++) {
+                        merged[my * width + mx] = true;
+                    }
+                }
+                float halfWidth = (right - x) * tile / 2f;
+                float halfHeight = (top - y) * tile / 2f;
+                shape.setAsBox(halfWidth, halfHeight, center.set(x * tile + halfWidth, y * tile + halfHeight), 0f);
+                body.createFixture(shape, 0f);
+            }
+        }
+        shape.dispose();
+        return body;
+    }
+
+    private static boolean isUnmerged(TileMap map, boolean[] merged, int x, int y) {
+        return map.isSolid(x, y) && !merged[y * map.getWidth() + x];
+    }
+
+    private static boolean isRowUnmerged(TileMap map, boolean[] merged, int from, int to, int y) {
+        for (int x = from; x < to; x++) {
+            if (!isUnmerged(map, merged, x, y)) return false;
+        }
+        return true;
+    }
+}
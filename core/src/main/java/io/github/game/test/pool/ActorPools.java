@@ -0,0 +1,70 @@
+package io.github.game.test.pool;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.ObjectIntMap;
+import com.badlogic.gdx.utils.ObjectMap;
+import com.badlogic.gdx.utils.Pool;
+
+/**
+ * Registry of the {@link TrackedPool}s used for short-lived actors. Pools belong to this instance only, never to
+ * libGDX's global {@code Pools}, so several worlds can live side by side; actors are obtained and freed through it.
+ */
+public class ActorPools {
+    private static final String TAG = "ActorPools";
+
+    private final ObjectMap<Class<?>, TrackedPool<?>> byType = new ObjectMap<>();
+    private final ObjectMap<String, TrackedPool<?>> byName = new ObjectMap<>();
+    private final Array<TrackedPool<?>> pools = new Array<>();
+
+    public <T extends Pool.Poolable> TrackedPool<T> register(String name, Class<T> type, TrackedPool.Factory<T> factory,
+                                                             int max) {
+        if (byType.containsKey(type)) throw new GdxRuntimeException("Pool already registered for " + type.getName());
+        TrackedPool<T> pool = new TrackedPool<>(name, factory, 16, max);
+        byType.put(type, pool);
+        byName.put(name, pool);
+        pools.add(pool);
+        return pool;
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T extends Pool.Poolable> TrackedPool<T> get(Class<T> type) {
+        TrackedPool<T> pool = (TrackedPool<T>) byType.get(type);
+        if (pool == null) throw new GdxRuntimeException("No pool registered for " + type.getName());
+        return pool;
+    }
+
+    public <T extends Pool.Poolable> T obtain(Class<T> type) {
+        return get(type).obtain();
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T extends Pool.Poolable> void free(T object) {
+        TrackedPool<T> pool = (TrackedPool<T>) byType.get(object.getClass());
+        if (pool == null) throw new GdxRuntimeException("No pool registered for " + object.getClass().getName());
+        pool.free(object);
+    }
+
+    /** Fills pools from a level's {@code pool <name> <count>} entries and clears their miss counters. */
+    public void preallocate(ObjectIntMap<String> counts) {
+        for (ObjectIntMap.Entry<String> entry : counts) {
+            TrackedPool<?> pool = byName.get(entry.key);
+            if (pool == null) throw new GdxRuntimeException("No pool named '" + entry.key + "'");
+            pool.preallocate(entry.value);
+        }
+        for (TrackedPool<?> pool : pools) {
+            pool.resetStats();
+        }
+    }
+
+    public Array<TrackedPool<?>> getPools() {
+        return pools;
+    }
+
+    public void logStats() {
+        for (TrackedPool<?> pool : pools) {
+            Gdx.app.log(TAG, pool.toString());
+        }
+    }
+}
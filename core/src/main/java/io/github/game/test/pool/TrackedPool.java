@@ -0,0 +1,78 @@
+package io.github.game.test.pool;
+
+import com.badlogic.gdx.utils.Pool;
+
+/**
+ * {@link Pool} that counts how its objects are used: how many are live, how many sit free, and how many had to be
+ * created on demand because the pool ran dry after {@link #preallocate(int)}.
+ */
+public class TrackedPool<T extends Pool.Poolable> extends Pool<T> {
+
+    /** Creates the objects held by a {@link TrackedPool}. */
+    public interface Factory<T> {
+        T create();
+    }
+
+    private final String name;
+    private final Factory<T> factory;
+    private int created;
+    private int misses;
+    private int live;
+
+    public TrackedPool(String name, Factory<T> factory, int initialCapacity, int max) {
+        super(initialCapacity, max);
+        this.name = name;
+        this.factory = factory;
+    }
+
+    @Override
+    protected T newObject() {
+        created++;
+        return factory.create();
+    }
+
+    @Override
+    public T obtain() {
+        if (getFree() == 0) misses++;
+        live++;
+        return super.obtain();
+    }
+
+    @Override
+    public void free(T object) {
+        live--;
+        super.free(object);
+    }
+
+    /** Tops the free list up to {@code count} objects so the level starts without creating any. */
+    public void preallocate(int count) {
+        int missing = count - getFree();
+        if (missing > 0) fill(missing);
+    }
+
+    public void resetStats() {
+        misses = 0;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getCreated() {
+        return created;
+    }
+
+    /** Objects created by {@link #obtain()} because no free object was left. */
+    public int getMisses() {
+        return misses;
+    }
+
+    public int getLive() {
+        return live;
+    }
+
+    @Override
+    public String toString() {
+        return name + ": live " + live + ", free " + getFree() + ", created " + created + ", misses " + misses;
+    }
+}
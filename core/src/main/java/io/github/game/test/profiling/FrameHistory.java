@@ -0,0 +1,69 @@
+package io.github.game.test.profiling;
+
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.StreamUtils;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Locale;
+
+/**
+ * Fixed-size ring buffer of per-frame metrics. Recording never allocates; the buffer is only turned into text when
+ * written out, oldest frame first.
+ */
+public class FrameHistory {
+    public static final String[] COLUMNS = {
+        "frame", "frameMs", "inputMs", "updateMs", "renderMs", "swapMs", "ticks",
+        "drawCalls", "textureBindings", "shaderSwitches", "vertices",
+        "batchRenderCalls", "maxSpritesInBatch", "allocatedBytes", "physicsMs"
+    };
+
+    private final double[][] rows;
+    private int next;
+    private int size;
+
+    public FrameHistory(int capacity) {
+        rows = new double[capacity][COLUMNS.length];
+    }
+
+    /** Row to fill for the next frame. Values must follow {@link #COLUMNS}. */
+    public double[] next() {
+        double[] row = rows[next];
+        next = (next + 1) % rows.length;
+        if (size < rows.length) size++;
+        return row;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public void clear() {
+        next = 0;
+        size = 0;
+    }
+
+    public void writeCsv(FileHandle file) {
+        Writer writer = null;
+        try {
+            writer = file.writer(false, "UTF-8");
+            writer.write(String.join(",", COLUMNS));
+            writer.write('\n');
+            int start = (next - size + rows.length) % rows.length;
+            for (int i = 0; i < size; i++) {
+                double[] row = rows[(start + i) % rows.length];
+                for (int column = 0; column < row.length; column++) {
+                    if (column > 0) writer.write(',');
+                    double value = row[column];
+                    writer.write(value == Math.rint(value) ? Long.toString((long) value) : String.format(Locale.ROOT, "%.3f", value));
+                }
+                writer.write('\n');
+            }
+        } catch (IOException e) {
+            throw new GdxRuntimeException("Cannot write frame history to " + file.path(), e);
+        } finally {
+            StreamUtils.closeQuietly(writer);
+        }
+    }
+}
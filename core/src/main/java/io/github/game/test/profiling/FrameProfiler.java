@@ -0,0 +1,166 @@
+package io.github.game.test.profiling;
+
+import com.badlogic.ashley.core.Engine;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.profiling.GLProfiler;
+import com.badlogic.gdx.utils.TimeUtils;
+import io.github.game.test.ecs.SystemPriority;
+import io.github.game.test.ecs.system.PhysicsSystem;
+import io.github.game.test.physics.PhysicsWorld;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+
+/**
+ * Per-frame instrumentation of the game screen: wall time per {@link Phase}, GL counters from {@link GLProfiler},
+ * {@link SpriteBatch} flush statistics, Box2D step time and bytes allocated by the render thread. Every frame is kept in a
+ * {@link FrameHistory} for export. When disabled, all hooks return immediately and GL profiling is off.
+ */
+public class FrameProfiler {
+    public static final int DEFAULT_HISTORY = 3600;
+
+    private final GLProfiler glProfiler;
+    private final FrameHistory history;
+    private final com.sun.management.ThreadMXBean allocations;
+    private final long[] phaseNanos = new long[Phase.values().length];
+    private boolean enabled;
+
+    private Phase currentPhase;
+    private long phaseStart;
+    private long frameStart;
+    private long lastFrameEnd;
+    private long allocatedAtFrameStart;
+    private PhysicsWorld physics;
+    private long physicsAtFrameStart;
+    private long frame;
+
+    private final double[] last = new double[FrameHistory.COLUMNS.length];
+    private int ticks;
+    private int batchRenderCalls;
+    private int maxSpritesInBatch;
+
+    public FrameProfiler() {
+        this(DEFAULT_HISTORY);
+    }
+
+    public FrameProfiler(int historyFrames) {
+        glProfiler = new GLProfiler(Gdx.graphics);
+        history = new FrameHistory(historyFrames);
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        allocations = threads instanceof com.sun.management.ThreadMXBean
+            ? (com.sun.management.ThreadMXBean) threads : null;
+    }
+
+    /**
+     * Adds the phase markers around the input and update systems of the engine, and times its physics steps. Every
+     * simulation system after input, AI included, counts as update.
+     */
+    public void attach(Engine engine) {
+        PhysicsSystem physicsSystem = engine.getSystem(PhysicsSystem.class);
+        physics = physicsSystem == null ? null : physicsSystem.getPhysics();
+        engine.addSystem(new PhaseMarkerSystem(this, Phase.INPUT, SystemPriority.INPUT - 1));
+        engine.addSystem(new PhaseMarkerSystem(this, Phase.UPDATE, SystemPriority.AI - 1));
+        engine.addSystem(new PhaseMarkerSystem(this, null, SystemPriority.RENDER - 1));
+    }
+
+    public void setEnabled(boolean enabled) {
+        if (this.enabled == enabled) return;
+        this.enabled = enabled;
+        if (enabled) {
+            glProfiler.enable();
+            glProfiler.reset();
+            lastFrameEnd = 0;
+        } else {
+            glProfiler.disable();
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void beginFrame() {
+        if (!enabled) return;
+        long now = TimeUtils.nanoTime();
+        for (int i = 0; i < phaseNanos.length; i++) {
+            phaseNanos[i] = 0;
+        }
+        if (lastFrameEnd != 0) phaseNanos[Phase.SWAP.ordinal()] = now - lastFrameEnd;
+        frameStart = now;
+        currentPhase = null;
+        ticks = 0;
+        batchRenderCalls = 0;
+        allocatedAtFrameStart = allocatedBytes();
+        physicsAtFrameStart = physicsNanos();
+    }
+
+    public void beginPhase(Phase phase) {
+        if (!enabled) return;
+        long now = TimeUtils.nanoTime();
+        if (currentPhase != null) phaseNanos[currentPhase.ordinal()] += now - phaseStart;
+        if (phase == Phase.INPUT) ticks++;
+        currentPhase = phase;
+        phaseStart = now;
+    }
+
+    public void endPhase() {
+        if (!enabled || currentPhase == null) return;
+        phaseNanos[currentPhase.ordinal()] += TimeUtils.nanoTime() - phaseStart;
+        currentPhase = null;
+    }
+
+    /** Call after each {@code batch.end()}: render calls are counted per begin/end pair. */
+    public void recordBatch(SpriteBatch batch) {
+        if (!enabled) return;
+        batchRenderCalls += batch.renderCalls;
+        maxSpritesInBatch = Math.max(maxSpritesInBatch, batch.maxSpritesInBatch);
+        batch.maxSpritesInBatch = 0;
+    }
+
+    public void endFrame() {
+        if (!enabled) return;
+        endPhase();
+        long now = TimeUtils.nanoTime();
+        long allocated = allocations == null ? -1 : allocatedBytes() - allocatedAtFrameStart;
+
+        double[] row = history.next();
+        row[0] = frame++;
+        row[1] = (now - frameStart + phaseNanos[Phase.SWAP.ordinal()]) / 1e6;
+        row[2] = phaseNanos[Phase.INPUT.ordinal()] / 1e6;
+        row[3] = phaseNanos[Phase.UPDATE.ordinal()] / 1e6;
+        row[4] = phaseNanos[Phase.RENDER.ordinal()] / 1e6;
+        row[5] = phaseNanos[Phase.SWAP.ordinal()] / 1e6;
+        row[6] = ticks;
+        row[7] = glProfiler.getDrawCalls();
+        row[8] = glProfiler.getTextureBindings();
+        row[9] = glProfiler.getShaderSwitches();
+        row[10] = glProfiler.getVertexCount().total;
+        row[11] = batchRenderCalls;
+        row[12] = maxSpritesInBatch;
+        row[13] = allocated;
+        row[14] = (physicsNanos() - physicsAtFrameStart) / 1e6;
+        System.arraycopy(row, 0, last, 0, row.length);
+
+        glProfiler.reset();
+        maxSpritesInBatch = 0;
+        lastFrameEnd = now;
+    }
+
+    /** Metrics of the last completed frame, laid out as {@link FrameHistory#COLUMNS}. */
+    public double[] getLastFrame() {
+        return last;
+    }
+
+    public FrameHistory getHistory() {
+        return history;
+    }
+
+    private long physicsNanos() {
+        return physics == null ? 0 : physics.getTotalStepNanos();
+    }
+
+    private long allocatedBytes() {
+        return allocations == null ? 0 : allocations.getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+}
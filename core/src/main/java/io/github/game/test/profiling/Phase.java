@@ -0,0 +1,12 @@
+package io.github.game.test.profiling;
+
+public enum Phase {
+    /** Reading the action snapshot and applying it to controlled entities. */
+    INPUT,
+    /** Every other simulation system, summed over all ticks run this frame. */
+    UPDATE,
+    /** Building and submitting draw calls. */
+    RENDER,
+    /** Time outside {@code render()}: buffer swap, vsync wait and backend event polling. */
+    SWAP
+}
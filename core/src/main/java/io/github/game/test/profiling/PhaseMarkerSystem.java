@@ -0,0 +1,29 @@
+package io.github.game.test.profiling;
+
+import com.badlogic.ashley.core.EntitySystem;
+
+/**
+ * Empty system slotted between other systems by priority; when the engine reaches it the profiler switches phase.
+ */
+public class PhaseMarkerSystem extends EntitySystem {
+    private final FrameProfiler profiler;
+    private final Phase phase;
+
+    /**
+     * @param phase the phase starting at this point, or null to close the current one
+     */
+    public PhaseMarkerSystem(FrameProfiler profiler, Phase phase, int priority) {
+        super(priority);
+        this.profiler = profiler;
+        this.phase = phase;
+    }
+
+    @Override
+    public void update(float deltaTime) {
+        if (phase == null) {
+            profiler.endPhase();
+        } else {
+            profiler.beginPhase(phase);
+        }
+    }
+}
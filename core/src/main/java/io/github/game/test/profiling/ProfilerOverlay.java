@@ -0,0 +1,84 @@
+package io.github.game.test.profiling;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.Input;
+import com.badlogic.gdx.InputAdapter;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.math.Matrix4;
+import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.TimeUtils;
+import io.github.game.test.Utils;
+
+/**
+ * On-screen readout of the {@link FrameProfiler}. F3 toggles profiling and the overlay, F4 writes the recorded
+ * frames to {@code profiler/frames-<time>.csv} in the local storage so they can be attached to a bug report.
+ */
+public class ProfilerOverlay extends InputAdapter implements Disposable {
+    private static final String TAG = "ProfilerOverlay";
+    private static final int TOGGLE_KEY = Input.Keys.F3;
+    private static final int DUMP_KEY = Input.Keys.F4;
+
+    private final FrameProfiler profiler;
+    private final BitmapFont font = new BitmapFont();
+    private final Matrix4 projection = new Matrix4();
+    private final Matrix4 previousProjection = new Matrix4();
+    private final StringBuilder text = new StringBuilder(256);
+    private float height;
+
+    public ProfilerOverlay(FrameProfiler profiler) {
+        this.profiler = profiler;
+    }
+
+    @Override
+    public boolean keyDown(int keycode) {
+        if (keycode == TOGGLE_KEY) {
+            profiler.setEnabled(!profiler.isEnabled());
+            return true;
+        }
+        if (keycode == DUMP_KEY && profiler.getHistory().size() > 0) {
+            String path = "profiler/frames-" + TimeUtils.millis() + ".csv";
+            profiler.getHistory().writeCsv(Utils.getLocalPath(path));
+            Gdx.app.log(TAG, "Wrote " + profiler.getHistory().size() + " frames to " + path);
+            return true;
+        }
+        return false;
+    }
+
+    public void resize(int width, int height) {
+        this.height = height;
+        projection.setToOrtho2D(0, 0, width, height);
+    }
+
+    /** Draws the last frame's metrics in screen space. Must be called outside {@code batch.begin()/end()}. */
+    public void render(SpriteBatch batch) {
+        if (!profiler.isEnabled()) return;
+        double[] frame = profiler.getLastFrame();
+        text.setLength(0);
+        text.append("frame ").append(ms(frame[1])).append(" ms  ticks ").append((int) frame[6]).append('\n')
+            .append("input ").append(ms(frame[2])).append("  update ").append(ms(frame[3]))
+            .append(" (physics ").append(ms(frame[14])).append(')')
+            .append("  render ").append(ms(frame[4])).append("  swap ").append(ms(frame[5])).append('\n')
+            .append("draw calls ").append((int) frame[7]).append("  binds ").append((int) frame[8])
+            .append("  shaders ").append((int) frame[9]).append("  vertices ").append((int) frame[10]).append('\n')
+            .append("batch flushes ").append((int) frame[11]).append("  max sprites ").append((int) frame[12])
+            .append("  alloc ").append((long) frame[13]).append(" B");
+
+        previousProjection.set(batch.getProjectionMatrix());
+        batch.setProjectionMatrix(projection);
+        batch.begin();
+        font.draw(batch, text, 8, height - 8);
+        batch.end();
+        batch.setProjectionMatrix(previousProjection);
+    }
+
+    /** Milliseconds with two decimals, without going through String.format. */
+    private static float ms(double value) {
+        return Math.round(value * 100) / 100f;
+    }
+
+    @Override
+    public void dispose() {
+        font.dispose();
+    }
+}
@@ -0,0 +1,62 @@
+package io.github.game.test.render;
+
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.utils.Array;
+import io.github.game.test.assets.Assets;
+import io.github.game.test.camera.Orthographic;
+import io.github.game.test.map.ParallaxLayer;
+import io.github.game.test.map.TileMap;
+
+/**
+ * Draws a level's parallax layers as a row of texture-wide quads that just covers the view, so the cost stays at two
+ * or three quads per layer however far the camera travels. The textures are not powers of two and can't use repeat
+ * wrapping on GLES2, so the row is tiled here instead. A layer's bottom edge sits at world y 0 when its vertical
+ * factor is 1.
+ */
+public class ParallaxBackground {
+    private final Array<ParallaxLayer> layers;
+    private final Array<Texture> textures = new Array<>();
+
+    public ParallaxBackground(TileMap map, Assets assets) {
+        layers = map.getParallaxLayers();
+        for (ParallaxLayer layer : layers) {
+            textures.add(assets.getManager().get(layer.getTexture(), Texture.class));
+        }
+    }
+
+    /** Layers drawn behind the tiles. The batch must already be begun. */
+    public void renderBack(SpriteBatch batch, Orthographic camera) {
+        render(batch, camera, false);
+    }
+
+    /** Layers drawn over the entities. The batch must already be begun. */
+    public void renderFront(SpriteBatch batch, Orthographic camera) {
+        render(batch, camera, true);
+    }
+
+    private void render(SpriteBatch batch, Orthographic camera, boolean foreground) {
+        Rectangle view = camera.getVisibleArea();
+        for (int i = 0; i < layers.size; i++) {
+            ParallaxLayer layer = layers.get(i);
+            if (layer.isForeground() != foreground) continue;
+            Texture texture = textures.get(i);
+            float width = texture.getWidth();
+            float height = texture.getHeight();
+
+            // The first copy starts where the scrolled layer crosses a texture edge left of the view.
+            float scrolled = view.x * layer.getFactorX();
+            float x = view.x - (scrolled - MathUtils.floor(scrolled / width) * width);
+            // Texture v runs top to bottom; the quad's bottom edge maps to the layer's bottom row at (view.y * factor).
+            // Clamping stretches the sky row upwards past the texture's top.
+            float bottom = view.y * layer.getFactorY();
+            float v = 1f - bottom / height;
+            float v2 = v - view.height / height;
+            for (; x < view.x + view.width; x += width) {
+                batch.draw(texture, x, view.y, width, view.height, 0f, v, 1f, v2);
+            }
+        }
+    }
+}
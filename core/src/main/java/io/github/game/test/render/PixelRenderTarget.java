@@ -0,0 +1,93 @@
+package io.github.game.test.render;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.graphics.glutils.FrameBuffer;
+import com.badlogic.gdx.math.Matrix4;
+import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.ScreenUtils;
+
+/**
+ * Off-screen target at the game's native pixel-art resolution. The world is drawn into it at 1 texel per pixel,
+ * then blitted to the window as one quad scaled by the largest whole factor that fits, with black bars around it.
+ */
+public class PixelRenderTarget implements Disposable {
+    public static final int NATIVE_WIDTH = 320;
+    public static final int NATIVE_HEIGHT = 180;
+
+    private final int width;
+    private final int height;
+    private final FrameBuffer frameBuffer;
+    private final TextureRegion region;
+    private final Matrix4 screenProjection = new Matrix4();
+    private final Matrix4 previousProjection = new Matrix4();
+    private int scale = 1;
+    private int offsetX;
+    private int offsetY;
+
+    public PixelRenderTarget() {
+        this(NATIVE_WIDTH, NATIVE_HEIGHT);
+    }
+
+    public PixelRenderTarget(int width, int height) {
+        this.width = width;
+        this.height = height;
+        frameBuffer = new FrameBuffer(Pixmap.Format.RGBA8888, width, height, false);
+        Texture texture = frameBuffer.getColorBufferTexture();
+        texture.setFilter(Texture.TextureFilter.Nearest, Texture.TextureFilter.Nearest);
+        region = new TextureRegion(texture);
+        // Frame buffer textures are stored bottom-up.
+        region.flip(false, true);
+    }
+
+    /** Recomputes the integer scale and letterbox offsets for the window's back buffer size. */
+    public void resize() {
+        int screenWidth = Gdx.graphics.getBackBufferWidth();
+        int screenHeight = Gdx.graphics.getBackBufferHeight();
+        scale = Math.max(1, Math.min(screenWidth / width, screenHeight / height));
+        offsetX = (screenWidth - width * scale) / 2;
+        offsetY = (screenHeight - height * scale) / 2;
+        screenProjection.setToOrtho2D(0, 0, screenWidth, screenHeight);
+    }
+
+    /** Redirects drawing into the low resolution target. */
+    public void begin() {
+        frameBuffer.begin();
+    }
+
+    /** Restores the default frame buffer and viewport. */
+    public void end() {
+        frameBuffer.end();
+    }
+
+    /** Clears the window to black and draws the target upscaled. Must be called outside {@code begin()/end()}. */
+    public void present(SpriteBatch batch) {
+        ScreenUtils.clear(0f, 0f, 0f, 1f);
+        previousProjection.set(batch.getProjectionMatrix());
+        batch.setProjectionMatrix(screenProjection);
+        batch.begin();
+        batch.draw(region, offsetX, offsetY, width * scale, height * scale);
+        batch.end();
+        batch.setProjectionMatrix(previousProjection);
+    }
+
+    public int getWidth() {
+        return width;
+    }
+
+    public int getHeight() {
+        return height;
+    }
+
+    public int getScale() {
+        return scale;
+    }
+
+    @Override
+    public void dispose() {
+        frameBuffer.dispose();
+    }
+}
@@ -0,0 +1,43 @@
+package io.github.game.test.render;
+
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.math.GridPoint2;
+import com.badlogic.gdx.utils.Array;
+import io.github.game.test.anim.AnimationLibrary;
+import io.github.game.test.anim.FrameTable;
+import io.github.game.test.camera.Orthographic;
+import io.github.game.test.map.TileMap;
+
+/**
+ * Draws the level's torches. They are decoration only, so they animate on render time rather than simulation ticks.
+ */
+public class TorchRenderer {
+    public static final String REGION = "tiki_torch_props";
+    public static final float FRAME_DURATION = 0.08f;
+
+    private final Array<GridPoint2> torches;
+    private final int tileSize;
+    private final FrameTable animation;
+    private float stateTime;
+
+    public TorchRenderer(TileMap map, AnimationLibrary library) {
+        torches = map.getTorches();
+        tileSize = map.getTileSize();
+        animation = library.table(REGION, FRAME_DURATION, true);
+    }
+
+    /** The batch must already be begun. */
+    public void render(SpriteBatch batch, Orthographic camera, float delta) {
+        stateTime += delta;
+        TextureRegion frame = animation.frame(stateTime);
+        float width = frame.getRegionWidth();
+        float height = frame.getRegionHeight();
+        for (int i = 0; i < torches.size; i++) {
+            GridPoint2 torch = torches.get(i);
+            float x = torch.x * tileSize + (tileSize - width) / 2f;
+            float y = torch.y * tileSize;
+            if (camera.isVisible(x, y, width, height)) batch.draw(frame, x, y, width, height);
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package io.github.game.test.replay;
+
+import io.github.game.test.input.ActionSource;
+
+/**
+ * Passes actions through from another source while appending each tick's mask to a {@link Recording}.
+ */
+public class InputRecorder implements ActionSource {
+    private final ActionSource source;
+    private final Recording recording;
+
+    public InputRecorder(ActionSource source, Recording recording) {
+        this.source = source;
+        this.recording = recording;
+    }
+
+    @Override
+    public int poll() {
+        int actions = source.poll();
+        recording.add(actions);
+        return actions;
+    }
+
+    public Recording getRecording() {
+        return recording;
+    }
+}
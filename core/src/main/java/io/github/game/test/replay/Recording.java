@@ -0,0 +1,125 @@
+package io.github.game.test.replay;
+
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.utils.ByteArray;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.StreamUtils;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+
+/**
+ * Per-tick action masks of one play session plus what is needed to reproduce it: the tick length and the RNG seed.
+ * <p>
+ * File layout, big-endian: magic {@code "PFRP"}, short version, float step, long seed, int tick count, then runs of
+ * identical ticks as (varint run length, byte action mask) until every tick is covered.
+ */
+public class Recording {
+    public static final int MAGIC = 0x50465250;
+    public static final short VERSION = 1;
+
+    private final float step;
+    private final long seed;
+    private final ByteArray actions;
+
+    public Recording(float step, long seed) {
+        this(step, seed, new ByteArray(4096));
+    }
+
+    private Recording(float step, long seed, ByteArray actions) {
+        this.step = step;
+        this.seed = seed;
+        this.actions = actions;
+    }
+
+    public void add(int actionMask) {
+        if ((actionMask & ~0xff) != 0) throw new GdxRuntimeException("Action mask does not fit a byte: " + actionMask);
+        actions.add((byte) actionMask);
+    }
+
+    public int get(int tick) {
+        return actions.get(tick) & 0xff;
+    }
+
+    public int getTicks() {
+        return actions.size;
+    }
+
+    public float getStep() {
+        return step;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public void write(FileHandle file) {
+        DataOutputStream out = null;
+        try {
+            out = new DataOutputStream(new BufferedOutputStream(file.write(false)));
+            out.writeInt(MAGIC);
+            out.writeShort(VERSION);
+            out.writeFloat(step);
+            out.writeLong(seed);
+            out.writeInt(actions.size);
+            int tick = 0;
+            while (tick < actions.size) {
+                byte mask = actions.get(tick);
+                int run = 1;
+                while (tick + run < actions.size && actions.get(tick + run) == mask) run++;
+                writeVarInt(out, run);
+                out.writeByte(mask);
+                tick += run;
+            }
+        } catch (IOException e) {
+            throw new GdxRuntimeException("Cannot write recording " + file.path(), e);
+        } finally {
+            StreamUtils.closeQuietly(out);
+        }
+    }
+
+    public static Recording read(FileHandle file) {
+        DataInputStream in = null;
+        try {
+            in = new DataInputStream(new BufferedInputStream(file.read()));
+            if (in.readInt() != MAGIC) throw new GdxRuntimeException(file.path() + " is not a recording");
+            short version = in.readShort();
+            if (version != VERSION) throw new GdxRuntimeException(file.path() + ": unsupported version " + version);
+            float step = in.readFloat();
+            long seed = in.readLong();
+            int ticks = in.readInt();
+            ByteArray actions = new ByteArray(ticks);
+            while (actions.size < ticks) {
+                int run = readVarInt(in);
+                byte mask = in.readByte();
+                for (int i = 0; i < run; i++) actions.add(mask);
+            }
+            return new Recording(step, seed, actions);
+        } catch (IOException e) {
+            throw new GdxRuntimeException("Cannot read recording " + file.path(), e);
+        } finally {
+            StreamUtils.closeQuietly(in);
+        }
+    }
+
+    private static void writeVarInt(DataOutputStream out, int value) throws IOException {
+        while ((value & ~0x7f) != 0) {
+            out.writeByte((value & 0x7f) | 0x80);
+            value >>>= 7;
+        }
+        out.writeByte(value);
+    }
+
+    private static int readVarInt(DataInputStream in) throws IOException {
+        int value = 0;
+        for (int shift = 0; shift < 32; shift += 7) {
+            int b = in.readUnsignedByte();
+            value |= (b & 0x7f) << shift;
+            if ((b & 0x80) == 0) return value;
+        }
+        throw new IOException("Malformed varint");
+    }
+}
@@ -0,0 +1,29 @@
+package io.github.game.test.replay;
+
+import io.github.game.test.input.ActionSource;
+
+/**
+ * Feeds a {@link Recording} back tick by tick. Returns no actions once the recording is exhausted.
+ */
+public class ReplaySource implements ActionSource {
+    private final Recording recording;
+    private int tick;
+
+    public ReplaySource(Recording recording) {
+        this.recording = recording;
+    }
+
+    @Override
+    public int poll() {
+        if (tick >= recording.getTicks()) return 0;
+        return recording.get(tick++);
+    }
+
+    public boolean isFinished() {
+        return tick >= recording.getTicks();
+    }
+
+    public void rewind() {
+        tick = 0;
+    }
+}
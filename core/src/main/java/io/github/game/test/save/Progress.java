@@ -0,0 +1,33 @@
+package io.github.game.test.save;
+
+import io.github.game.test.actor.Coin;
+import io.github.game.test.actor.Orb;
+import io.github.game.test.actor.Pickup;
+
+/**
+ * What the player has achieved in the current level: pickups collected and the last save point reached.
+ */
+public class Progress {
+    /** Asset path of the level being played. */
+    public String level = "";
+    public int coins;
+    public int orbs;
+    /** World position of the last save point. */
+    public float savePointX;
+    public float savePointY;
+
+    /** Collects the pickup and counts its value. */
+    public void collect(Pickup pickup) {
+        if (pickup.collected) return;
+        pickup.collect();
+        if (pickup instanceof Coin) coins += pickup.value;
+        else if (pickup instanceof Orb) orbs += pickup.value;
+    }
+
+    public void reset() {
+        coins = 0;
+        orbs = 0;
+        savePointX = 0;
+        savePointY = 0;
+    }
+}
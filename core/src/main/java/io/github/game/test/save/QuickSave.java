@@ -0,0 +1,58 @@
+package io.github.game.test.save;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.Input;
+import com.badlogic.gdx.InputAdapter;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.TimeUtils;
+import io.github.game.test.GameWorld;
+import io.github.game.test.Utils;
+
+/**
+ * F5 saves the world to {@code saves/quicksave.sav} in the local storage, F9 restores it. Both are logged with how
+ * long they held up the frame.
+ */
+public class QuickSave extends InputAdapter implements Disposable {
+    public static final String PATH = "saves/quicksave.sav";
+    private static final String TAG = "QuickSave";
+    private static final int SAVE_KEY = Input.Keys.F5;
+    private static final int LOAD_KEY = Input.Keys.F9;
+
+    private final GameWorld world;
+    private final SnapshotStore store = new SnapshotStore();
+
+    public QuickSave(GameWorld world) {
+        this.world = world;
+    }
+
+    @Override
+    public boolean keyDown(int keycode) {
+        if (keycode == SAVE_KEY) {
+            long start = TimeUtils.nanoTime();
+            store.saveAsync(world, Utils.getLocalPath(PATH));
+            Gdx.app.log(TAG, "Captured in " + TimeUtils.timeSinceNanos(start) / 1000 + " us");
+            return true;
+        }
+        if (keycode == LOAD_KEY) {
+            FileHandle file = Utils.getLocalPath(PATH);
+            long start = TimeUtils.nanoTime();
+            try {
+                if (!store.load(world, file)) return true;
+            } catch (GdxRuntimeException e) {
+                // The world is left as it was; a bad save file must not end the session.
+                Gdx.app.error(TAG, "Cannot restore " + file.path(), e);
+                return true;
+            }
+            Gdx.app.log(TAG, "Restored in " + TimeUtils.timeSinceNanos(start) / 1000 + " us");
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    public void dispose() {
+        store.dispose();
+    }
+}
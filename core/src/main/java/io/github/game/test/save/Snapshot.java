@@ -0,0 +1,298 @@
+package io.github.game.test.save;
+
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.core.Family;
+import com.badlogic.ashley.utils.ImmutableArray;
+import com.badlogic.gdx.physics.box2d.Body;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.IntMap;
+import io.github.game.test.GameWorld;
+import io.github.game.test.actor.Bomb;
+import io.github.game.test.actor.Coin;
+import io.github.game.test.actor.Dust;
+import io.github.game.test.actor.Explosion;
+import io.github.game.test.actor.Orb;
+import io.github.game.test.actor.Pickup;
+import io.github.game.test.actor.TransientActor;
+import io.github.game.test.ai.EnemyAgent;
+import io.github.game.test.ai.EnemyState;
+import io.github.game.test.ecs.Mappers;
+import io.github.game.test.ecs.component.BodyComponent;
+import io.github.game.test.ecs.component.EnemyComponent;
+import io.github.game.test.ecs.component.TransformComponent;
+import io.github.game.test.ecs.component.VelocityComponent;
+import io.github.game.test.ecs.system.AiSystem;
+import io.github.game.test.physics.PhysicsWorld;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Binary image of a {@link GameWorld} between two ticks: RNG state, tick count, progress, the player, live enemies
+ * and transient actors. Writing and reading work on a {@link ByteBuffer}, so the same format serves save files,
+ * direct-buffer loads and in-memory rewind buffers.
+ * <p>
+ * Layout, big-endian: magic {@code "PFSV"}, short version, long seed, two longs of RNG state, long tick, int AI tick,
+ * progress (short-prefixed UTF-8 level path, int coins, int orbs, float save point x, y), player (transform, velocity,
+ * flip), int enemy count then per enemy in AI run order (int id, transform, velocity, flip, byte state, byte
+ * direction, float cooldown, float attack time, byte tier, int last AI tick), int actor count then per actor (byte
+ * type, transform, velocity, float state time, flip, plus float fuse for bombs or byte collected and int value for
+ * pickups). A transform is previous then current position.
+ * <p>
+ * Enemies are matched by id; ones not in the world when restoring, e.g. in a region that is not loaded, are skipped.
+ * The AI schedule is rebuilt from the saved tiers and run order, so enemies think on the same ticks as when saved.
+ */
+public final class Snapshot {
+    public static final int MAGIC = 0x50465356;
+    public static final short VERSION = 2;
+
+    /** Actor types in the order of their type byte. Append only: the index is part of the format. */
+    private static final Array<Class<? extends TransientActor>> ACTOR_TYPES = Array.with(
+        Bomb.class, Explosion.class, Coin.class, Orb.class, Dust.class);
+
+    private static final EnemyState[] ENEMY_STATES = EnemyState.values();
+    private static final AiSystem.Tier[] TIERS = AiSystem.Tier.values();
+    /** Transform, velocity and flip of one entity record. */
+    private static final int ENTITY_BYTES = 6 * 4 + 1;
+
+    private static final Family ENEMIES = Family.all(EnemyComponent.class, TransformComponent.class,
+        VelocityComponent.class).get();
+
+    private Snapshot() {
+    }
+
+    /** Upper bound of the bytes {@link #write} needs for the world as it is now. */
+    public static int maxSize(GameWorld world) {
+        return 256 + world.getProgress().level.length() * 3
+            + world.getEngine().getEntitiesFor(ENEMIES).size() * 48
+            + world.getTransientActors().getLive().size * 48;
+    }
+
+    public static void write(GameWorld world, ByteBuffer out) {
+        out.putInt(MAGIC);
+        out.putShort(VERSION);
+        out.putLong(world.getSeed());
+        out.putLong(world.getRandom().getState(0));
+        out.putLong(world.getRandom().getState(1));
+        out.putLong(world.getTicks());
+        out.putInt(world.getAi().getTick());
+
+        Progress progress = world.getProgress();
+        byte[] level = progress.level.getBytes(StandardCharsets.UTF_8);
+        out.putShort((short) level.length);
+        out.put(level);
+        out.putInt(progress.coins);
+        out.putInt(progress.orbs);
+        out.putFloat(progress.savePointX);
+        out.putFloat(progress.savePointY);
+
+        writeEntity(world.getPlayer(), out);
+
+        Array<EnemyAgent> agents = world.getAi().getScheduled();
+        out.putInt(agents.size);
+        for (int i = 0; i < agents.size; i++) {
+            EnemyAgent agent = agents.get(i);
+            out.putInt(agent.getId());
+            writeEntity(agent.getEntity(), out);
+            out.put((byte) ((EnemyState) agent.getStateMachine().getCurrentState()).ordinal());
+            out.put((byte) agent.getDirection());
+            out.putFloat(agent.getCooldown());
+            out.putFloat(agent.getAttackTime());
+            out.put((byte) agent.getTier().ordinal());
+            out.putInt(agent.getLastTick());
+        }
+
+        Array<TransientActor> actors = world.getTransientActors().getLive();
+        out.putInt(actors.size);
+        for (int i = 0; i < actors.size; i++) {
+            TransientActor actor = actors.get(i);
+            int type = ACTOR_TYPES.indexOf(actor.getClass(), true);
+            if (type < 0) throw new GdxRuntimeException("No snapshot type for " + actor.getClass().getSimpleName());
+            out.put((byte) type);
+            out.putFloat(actor.previousPosition.x).putFloat(actor.previousPosition.y);
+            out.putFloat(actor.position.x).putFloat(actor.position.y);
+            out.putFloat(actor.velocity.x).putFloat(actor.velocity.y);
+            out.putFloat(actor.stateTime);
+            out.put((byte) (actor.flipX ? 1 : 0));
+            if (actor instanceof Bomb) {
+                out.putFloat(((Bomb) actor).fuse);
+            } else if (actor instanceof Pickup) {
+                Pickup pickup = (Pickup) actor;
+                out.put((byte) (pickup.collected ? 1 : 0));
+                out.putInt(pickup.value);
+            }
+        }
+    }
+
+    /**
+     * Restores the world from {@code in}. The world must be playing the same level; its random generator takes the
+     * snapshot's seed and state, so a save from an earlier session restores into a freshly seeded world. The whole
+     * snapshot is checked before anything is applied, so a truncated or corrupt one leaves the world untouched.
+     */
+    public static void read(ByteBuffer in, GameWorld world) {
+        int start = in.position();
+        try {
+            validate(in, world.getProgress().level);
+        } catch (BufferUnderflowException e) {
+            throw new GdxRuntimeException("Truncated snapshot", e);
+        }
+        in.position(start);
+        apply(in, world);
+    }
+
+    /** Walks the whole snapshot without changing the world; throws on anything {@link #apply} could not read. */
+    private static void validate(ByteBuffer in, String level) {
+        if (in.getInt() != MAGIC) throw new GdxRuntimeException("Not a snapshot");
+        short version = in.getShort();
+        if (version != VERSION) throw new GdxRuntimeException("Unsupported snapshot version " + version);
+        skip(in, 4 * 8 + 4);
+        int levelLength = in.getShort();
+        if (!matches(in, levelLength, level)) {
+            throw new GdxRuntimeException("Snapshot belongs to another level than " + level);
+        }
+        skip(in, 4 * 4 + ENTITY_BYTES);
+
+        int enemyCount = count(in);
+        for (int i = 0; i < enemyCount; i++) {
+            skip(in, 4 + ENTITY_BYTES);
+            index(in.get(), ENEMY_STATES.length, "enemy state");
+            skip(in, 1 + 4 + 4);
+            index(in.get(), TIERS.length, "AI tier");
+            skip(in, 4);
+        }
+
+        int actorCount = count(in);
+        for (int i = 0; i < actorCount; i++) {
+            Class<? extends TransientActor> type = ACTOR_TYPES.get(index(in.get(), ACTOR_TYPES.size, "actor type"));
+            skip(in, 7 * 4 + 1);
+            if (type == Bomb.class) {
+                skip(in, 4);
+            } else if (Pickup.class.isAssignableFrom(type)) {
+                skip(in, 1 + 4);
+            }
+        }
+    }
+
+    /** Applies a snapshot {@link #validate} accepted; the only allocations are the actors taken from their pools. */
+    private static void apply(ByteBuffer in, GameWorld world) {
+        in.getInt();
+        in.getShort();
+        long seed = in.getLong();
+        long state0 = in.getLong();
+        long state1 = in.getLong();
+        world.restoreRandom(seed, state0, state1);
+        world.setTicks(in.getLong());
+        int aiTick = in.getInt();
+
+        Progress progress = world.getProgress();
+        skip(in, in.getShort());
+        progress.coins = in.getInt();
+        progress.orbs = in.getInt();
+        progress.savePointX = in.getFloat();
+        progress.savePointY = in.getFloat();
+
+        readEntity(in, world.getPlayer());
+
+        ImmutableArray<Entity> enemies = world.getEngine().getEntitiesFor(ENEMIES);
+        IntMap<Entity> byId = new IntMap<>(enemies.size());
+        for (int i = 0; i < enemies.size(); i++) {
+            byId.put(Mappers.enemy.get(enemies.get(i)).agent.getId(), enemies.get(i));
+        }
+        int enemyCount = in.getInt();
+        Array<EnemyAgent> order = new Array<>(enemyCount);
+        for (int i = 0; i < enemyCount; i++) {
+            Entity entity = byId.get(in.getInt());
+            readEntity(in, entity);
+            EnemyState state = ENEMY_STATES[in.get()];
+            int direction = in.get();
+            float cooldown = in.getFloat();
+            float attackTime = in.getFloat();
+            AiSystem.Tier tier = TIERS[in.get()];
+            int lastTick = in.getInt();
+            if (entity == null) continue;
+            EnemyAgent agent = Mappers.enemy.get(entity).agent;
+            agent.restore(state, direction, cooldown, attackTime, tier, lastTick);
+            order.add(agent);
+        }
+        world.getAi().restore(aiTick, order);
+
+        world.getTransientActors().clear();
+        int actorCount = in.getInt();
+        for (int i = 0; i < actorCount; i++) {
+            TransientActor actor = world.getTransientActors().restore(ACTOR_TYPES.get(in.get()));
+            actor.previousPosition.set(in.getFloat(), in.getFloat());
+            actor.position.set(in.getFloat(), in.getFloat());
+            actor.velocity.set(in.getFloat(), in.getFloat());
+            actor.stateTime = in.getFloat();
+            actor.flipX = in.get() != 0;
+            if (actor instanceof Bomb) {
+                ((Bomb) actor).fuse = in.getFloat();
+            } else if (actor instanceof Pickup) {
+                Pickup pickup = (Pickup) actor;
+                pickup.collected = in.get() != 0;
+                pickup.value = in.getInt();
+            }
+        }
+        world.reindexPickups();
+    }
+
+    private static void skip(ByteBuffer in, int bytes) {
+        if (in.remaining() < bytes) throw new BufferUnderflowException();
+        in.position(in.position() + bytes);
+    }
+
+    private static int count(ByteBuffer in) {
+        int count = in.getInt();
+        if (count < 0) throw new GdxRuntimeException("Corrupt snapshot: negative count " + count);
+        return count;
+    }
+
+    private static int index(byte value, int size, String what) {
+        if (value < 0 || value >= size) throw new GdxRuntimeException("Corrupt snapshot: bad " + what + " " + value);
+        return value;
+    }
+
+    private static void writeEntity(Entity entity, ByteBuffer out) {
+        TransformComponent transform = Mappers.transform.get(entity);
+        out.putFloat(transform.previousPosition.x).putFloat(transform.previousPosition.y);
+        out.putFloat(transform.position.x).putFloat(transform.position.y);
+        VelocityComponent velocity = Mappers.velocity.get(entity);
+        out.putFloat(velocity.velocity.x).putFloat(velocity.velocity.y);
+        out.put((byte) (transform.flipX ? 1 : 0));
+    }
+
+    /** Reads one entity record; with a null entity the record is skipped. */
+    private static void readEntity(ByteBuffer in, Entity entity) {
+        if (entity == null) {
+            skip(in, ENTITY_BYTES);
+            return;
+        }
+        TransformComponent transform = Mappers.transform.get(entity);
+        transform.previousPosition.set(in.getFloat(), in.getFloat());
+        transform.position.set(in.getFloat(), in.getFloat());
+        VelocityComponent velocity = Mappers.velocity.get(entity);
+        velocity.velocity.set(in.getFloat(), in.getFloat());
+        transform.flipX = in.get() != 0;
+
+        BodyComponent body = Mappers.body.get(entity);
+        if (body != null) {
+            Body physicsBody = body.body;
+            physicsBody.setTransform(PhysicsWorld.toMeters(transform.position.x + transform.width / 2f),
+                PhysicsWorld.toMeters(transform.position.y + transform.height / 2f), 0f);
+            physicsBody.setLinearVelocity(PhysicsWorld.toMeters(velocity.velocity.x), PhysicsWorld.toMeters(velocity.velocity.y));
+        }
+    }
+
+    /** Compares the next {@code length} bytes with the UTF-8 form of {@code expected} without building a string. */
+    private static boolean matches(ByteBuffer in, int length, String expected) {
+        byte[] bytes = expected.getBytes(StandardCharsets.UTF_8);
+        boolean equal = bytes.length == length;
+        for (int i = 0; i < length; i++) {
+            byte b = in.get();
+            if (equal && bytes[i] != b) equal = false;
+        }
+        return equal;
+    }
+}
@@ -0,0 +1,142 @@
+package io.github.game.test.save;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.async.AsyncExecutor;
+import com.badlogic.gdx.utils.async.AsyncResult;
+import io.github.game.test.GameWorld;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Writes and reads {@link Snapshot} files through NIO channels. Saving captures the world into a direct buffer on
+ * the calling thread, which takes well under a millisecond, and hands the file write to a background thread; the
+ * file is written next to its target and moved into place, so a crash never leaves a half-written save. Loading
+ * waits for pending writes, then reads the file into a reused direct buffer; files are never mapped, since a mapped
+ * file can't be replaced by the next save on Windows.
+ */
+public class SnapshotStore implements Disposable {
+    public static final int INITIAL_BUFFER_SIZE = 16 * 1024;
+    private static final String TAG = "SnapshotStore";
+
+    private final AsyncExecutor executor = new AsyncExecutor(1, "snapshot-writer");
+    // Two buffers: one can be captured into while the other is still being written.
+    private final ByteBuffer[] buffers = new ByteBuffer[2];
+    private final AsyncResult<?>[] writes = new AsyncResult<?>[2];
+    private ByteBuffer loadBuffer;
+    private int next;
+
+    /**
+     * Captures the world now and writes it to {@code file} in the background. A failure of an earlier background
+     * write is logged, not thrown, so one bad write does not take the game down with the next save.
+     *
+     * @return the pending write; {@code get()} rethrows I/O failures
+     */
+    public AsyncResult<Void> saveAsync(GameWorld world, FileHandle file) {
+        int slot = next;
+        next = (next + 1) % buffers.length;
+        // Only waits if the save from two calls ago is still being written.
+        await(writes[slot]);
+
+        ByteBuffer buffer = capture(world, slot);
+        Path target = file.file().toPath();
+        AsyncResult<Void> write = executor.submit(() -> {
+            writeFile(buffer, target);
+            return null;
+        });
+        writes[slot] = write;
+        return write;
+    }
+
+    /** Captures and writes on the calling thread; rethrows this write's I/O failure. */
+    public void save(GameWorld world, FileHandle file) {
+        saveAsync(world, file).get();
+    }
+
+    /**
+     * Restores the world from {@code file}, after any save still being written to it has landed.
+     *
+     * @return false if there is no such file
+     */
+    public boolean load(GameWorld world, FileHandle file) {
+        for (AsyncResult<?> write : writes) {
+            await(write);
+        }
+        Path path = file.file().toPath();
+        if (!Files.exists(path)) return false;
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size > Integer.MAX_VALUE) throw new GdxRuntimeException("Snapshot too large: " + file.path());
+            if (loadBuffer == null || loadBuffer.capacity() < size) {
+                loadBuffer = allocate((int) size);
+            }
+            loadBuffer.clear();
+            loadBuffer.limit((int) size);
+            while (loadBuffer.hasRemaining()) {
+                // A file that ends early leaves a short buffer, which reads as a truncated snapshot.
+                if (channel.read(loadBuffer) < 0) break;
+            }
+            loadBuffer.flip();
+            Snapshot.read(loadBuffer, world);
+        } catch (IOException e) {
+            throw new GdxRuntimeException("Cannot read snapshot " + file.path(), e);
+        }
+        return true;
+    }
+
+    private ByteBuffer capture(GameWorld world, int slot) {
+        int size = Snapshot.maxSize(world);
+        ByteBuffer buffer = buffers[slot];
+        if (buffer == null || buffer.capacity() < size) {
+            buffer = allocate(size);
+            buffers[slot] = buffer;
+        }
+        buffer.clear();
+        Snapshot.write(world, buffer);
+        buffer.flip();
+        return buffer;
+    }
+
+    private static ByteBuffer allocate(int size) {
+        return ByteBuffer.allocateDirect(Math.max(INITIAL_BUFFER_SIZE, Integer.highestOneBit(size) << 1));
+    }
+
+    private static void writeFile(ByteBuffer buffer, Path target) throws IOException {
+        Path parent = target.toAbsolutePath().getParent();
+        if (parent != null) Files.createDirectories(parent);
+        Path temp = target.resolveSibling(target.getFileName() + ".tmp");
+        try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+            StandardOpenOption.TRUNCATE_EXISTING)) {
+            while (buffer.hasRemaining()) channel.write(buffer);
+            channel.force(false);
+        }
+        Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /** Waits for pending writes, then stops the writer thread. */
+    @Override
+    public void dispose() {
+        for (AsyncResult<?> write : writes) {
+            await(write);
+        }
+        executor.dispose();
+    }
+
+    /** Waits for an earlier write and logs its failure, if any. */
+    private static void await(AsyncResult<?> write) {
+        if (write == null) return;
+        try {
+            write.get();
+        } catch (GdxRuntimeException e) {
+            Gdx.app.error(TAG, "Background save failed", e);
+        }
+    }
+}
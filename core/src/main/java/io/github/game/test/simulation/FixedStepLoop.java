@@ -0,0 +1,75 @@
+package io.github.game.test.simulation;
+
+/**
+ * Runs a {@link Simulation} at a fixed rate, independently of the render frame rate.
+ * Leftover time is exposed through {@link #getAlpha()} so rendering can interpolate between ticks.
+ */
+public class FixedStepLoop {
+    public static final float DEFAULT_STEP = 1f / 120f;
+    public static final int DEFAULT_MAX_STEPS = 8;
+
+    private final Simulation simulation;
+    private final float step;
+    private final int maxSteps;
+    private float accumulator;
+    private long ticks;
+
+    public FixedStepLoop(Simulation simulation) {
+        this(simulation, DEFAULT_STEP, DEFAULT_MAX_STEPS);
+    }
+
+    public FixedStepLoop(Simulation simulation, float step, int maxSteps) {
+        if (step <= 0) throw new IllegalArgumentException("step must be > 0: " + step);
+        if (maxSteps < 1) throw new IllegalArgumentException("maxSteps must be >= 1: " + maxSteps);
+        this.simulation = simulation;
+        this.step = step;
+        this.maxSteps = maxSteps;
+    }
+
+    /**
+     * Adds the frame time to the accumulator and runs as many ticks as fit, up to the catch-up cap.
+     * Time that still does not fit after the cap is dropped so one slow frame cannot snowball.
+     *
+     * @return the number of ticks run
+     */
+    public int advance(float delta) {
+        accumulator += delta;
+        int steps = 0;
+        while (accumulator >= step && steps < maxSteps) {
+            simulation.tick(step);
+            accumulator -= step;
+            steps++;
+        }
+        if (accumulator >= step) {
+            accumulator %= step;
+        }
+        ticks += steps;
+        return steps;
+    }
+
+    /** Runs exactly {@code count} ticks, ignoring the accumulator. Used to drive the simulation headless. */
+    public void runTicks(long count) {
+        for (long i = 0; i < count; i++) {
+            simulation.tick(step);
+        }
+        ticks += count;
+    }
+
+    /** Fraction of a tick left in the accumulator, in [0, 1). */
+    public float getAlpha() {
+        return accumulator / step;
+    }
+
+    public float getStep() {
+        return step;
+    }
+
+    public long getTicks() {
+        return ticks;
+    }
+
+    public void reset() {
+        accumulator = 0;
+        ticks = 0;
+    }
+}
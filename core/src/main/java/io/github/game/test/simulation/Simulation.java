@@ -0,0 +1,9 @@
+package io.github.game.test.simulation;
+
+/**
+ * Game state advanced by a {@link FixedStepLoop}. Implementations must not touch GL so they can run headless.
+ */
+public interface Simulation {
+
+    void tick(float step);
+}
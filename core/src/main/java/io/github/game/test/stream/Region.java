@@ -0,0 +1,51 @@
+package io.github.game.test.stream;
+
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.gdx.physics.box2d.Body;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.async.AsyncResult;
+import io.github.game.test.map.TileMap;
+
+/**
+ * One cell of a streamed level and whatever is currently loaded for it.
+ */
+public class Region {
+    public enum State {
+        /** Nothing in memory. */
+        UNLOADED,
+        /** Being read and parsed on the loader thread. */
+        LOADING,
+        /** Parsed and ready to activate. */
+        LOADED,
+        /** Colliders and enemies are in the world. */
+        ACTIVE
+    }
+
+    public final int x;
+    public final int y;
+    /** Bottom-left corner in world units. */
+    public final float originX;
+    public final float originY;
+
+    State state = State.UNLOADED;
+    AsyncResult<TileMap> pending;
+    TileMap map;
+    Body colliders;
+    final Array<Entity> enemies = new Array<>(false, 8);
+
+    Region(int x, int y, float originX, float originY) {
+        this.x = x;
+        this.y = y;
+        this.originX = originX;
+        this.originY = originY;
+    }
+
+    public State getState() {
+        return state;
+    }
+
+    /** The region's tiles, or null unless loaded or active. */
+    public TileMap getMap() {
+        return map;
+    }
+}
@@ -0,0 +1,59 @@
+package io.github.game.test.stream;
+
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.ObjectMap;
+import io.github.game.test.camera.Orthographic;
+import io.github.game.test.map.TileMapRenderer;
+
+/**
+ * Render side of a {@link RegionStreamer}: one {@link TileMapRenderer} per active region, filled in slices of at most
+ * {@link #CHUNKS_PER_FRAME} chunk uploads per frame so a region arriving never stalls a frame. Released regions free
+ * their geometry right away.
+ */
+public class RegionRenderer implements RegionStreamer.Listener, Disposable {
+    public static final int CHUNKS_PER_FRAME = 2;
+
+    private final TextureRegion tileset;
+    private final ObjectMap<Region, TileMapRenderer> renderers = new ObjectMap<>();
+
+    public RegionRenderer(TextureRegion tileset) {
+        this.tileset = tileset;
+    }
+
+    @Override
+    public void regionActivated(Region region) {
+        if (region.getMap() == null) return;
+        renderers.put(region, new TileMapRenderer(region.getMap(), tileset, TileMapRenderer.DEFAULT_CHUNK_SIZE,
+            region.originX, region.originY));
+    }
+
+    @Override
+    public void regionReleased(Region region) {
+        TileMapRenderer renderer = renderers.remove(region);
+        if (renderer != null) renderer.dispose();
+    }
+
+    /** Spends this frame's upload slice, then draws every region's built chunks. */
+    public void render(Orthographic camera) {
+        int budget = CHUNKS_PER_FRAME;
+        for (TileMapRenderer renderer : renderers.values()) {
+            if (budget == 0) break;
+            if (renderer.isBuilt()) continue;
+            int before = renderer.getBuiltChunks();
+            renderer.buildChunks(budget);
+            budget -= renderer.getBuiltChunks() - before;
+        }
+        for (TileMapRenderer renderer : renderers.values()) {
+            renderer.render(camera);
+        }
+    }
+
+    @Override
+    public void dispose() {
+        for (TileMapRenderer renderer : renderers.values()) {
+            renderer.dispose();
+        }
+        renderers.clear();
+    }
+}
@@ -0,0 +1,193 @@
+package io.github.game.test.stream;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.async.AsyncExecutor;
+import io.github.game.test.GameWorld;
+import io.github.game.test.ai.EnemyType;
+import io.github.game.test.map.EnemySpawn;
+import io.github.game.test.map.TileMap;
+import io.github.game.test.map.TileMapLoader;
+import io.github.game.test.physics.TileColliders;
+
+/**
+ * Keeps the regions of a streamed level loaded around the player. Regions within {@link #PREFETCH_RADIUS} are read
+ * and parsed on a loader thread; regions within {@link #ACTIVE_RADIUS} get their colliders and enemies added to the
+ * world; regions beyond {@link #RELEASE_RADIUS} drop everything. Radii count regions in each direction.
+ * <p>
+ * Activation is driven by the simulation tick, never by loading speed: if a region must become active before its
+ * file is parsed, the tick waits for it. The prefetch ring makes that rare, and replays stay deterministic.
+ */
+public class RegionStreamer implements Disposable {
+    public static final int ACTIVE_RADIUS = 1;
+    public static final int PREFETCH_RADIUS = 2;
+    public static final int RELEASE_RADIUS = 3;
+
+    /** Told about regions entering and leaving the world, e.g. to build and free their tile geometry. */
+    public interface Listener {
+        void regionActivated(Region region);
+
+        void regionReleased(Region region);
+    }
+
+    private final GameWorld world;
+    private final TileMap level;
+    private final AsyncExecutor executor = new AsyncExecutor(1, "region-loader");
+    private final Region[] regions;
+    private final int regionsX;
+    private final int regionsY;
+    private final float regionWorldWidth;
+    private final float regionWorldHeight;
+    private final Array<Listener> listeners = new Array<>();
+    private int currentX = -1;
+    private int currentY = -1;
+
+    public RegionStreamer(GameWorld world, TileMap level) {
+        if (!level.isStreamed()) throw new GdxRuntimeException("Level is not split into regions");
+        this.world = world;
+        this.level = level;
+        regionsX = (level.getWidth() + level.getRegionWidth() - 1) / level.getRegionWidth();
+        regionsY = (level.getHeight() + level.getRegionHeight() - 1) / level.getRegionHeight();
+        regionWorldWidth = level.getRegionWidth() * level.getTileSize();
+        regionWorldHeight = level.getRegionHeight() * level.getTileSize();
+        regions = new Region[regionsX * regionsY];
+        for (int y = 0; y < regionsY; y++) {
+            for (int x = 0; x < regionsX; x++) {
+                regions[y * regionsX + x] = new Region(x, y, x * regionWorldWidth, y * regionWorldHeight);
+            }
+        }
+    }
+
+    /** Adds a listener and tells it about the regions already active. */
+    public void addListener(Listener listener) {
+        listeners.add(listener);
+        for (Region region : regions) {
+            if (region.state == Region.State.ACTIVE) listener.regionActivated(region);
+        }
+    }
+
+    public void removeListener(Listener listener) {
+        listeners.removeValue(listener, true);
+    }
+
+    /** Streams around the given world position. Cheap when the position stays inside the same region. */
+    public void update(float x, float y) {
+        int regionX = MathUtils.clamp((int) (x / regionWorldWidth), 0, regionsX - 1);
+        int regionY = MathUtils.clamp((int) (y / regionWorldHeight), 0, regionsY - 1);
+        if (regionX == currentX && regionY == currentY) {
+            collectFinishedLoads();
+            return;
+        }
+        currentX = regionX;
+        currentY = regionY;
+
+        for (Region region : regions) {
+            int distance = distance(region);
+            if (distance > RELEASE_RADIUS) {
+                release(region);
+            } else if (distance <= ACTIVE_RADIUS) {
+                activate(region);
+            } else if (distance <= PREFETCH_RADIUS && region.state == Region.State.UNLOADED) {
+                load(region);
+            }
+        }
+    }
+
+    private void load(Region region) {
+        FileHandle file = Gdx.files.internal(level.getRegionDirectory() + "/" + region.x + "_" + region.y + ".txt");
+        region.state = Region.State.LOADING;
+        region.pending = executor.submit(() -> file.exists() ? TileMapLoader.load(file) : null);
+    }
+
+    /**
+     * Moves parsed regions from LOADING to LOADED without blocking. Regions the player left behind while they were
+     * loading are unloaded instead.
+     */
+    private void collectFinishedLoads() {
+        for (Region region : regions) {
+            if (region.state != Region.State.LOADING || !region.pending.isDone()) continue;
+            if (distance(region) > RELEASE_RADIUS) {
+                release(region);
+            } else {
+                finishLoad(region);
+            }
+        }
+    }
+
+    /** Distance in regions from the region the player is in. */
+    private int distance(Region region) {
+        return Math.max(Math.abs(region.x - currentX), Math.abs(region.y - currentY));
+    }
+
+    private void finishLoad(Region region) {
+        region.map = region.pending.get();
+        region.pending = null;
+        region.state = Region.State.LOADED;
+    }
+
+    private void activate(Region region) {
+        if (region.state == Region.State.ACTIVE) return;
+        if (region.state == Region.State.UNLOADED) load(region);
+        if (region.state == Region.State.LOADING) finishLoad(region);
+
+        TileMap map = region.map;
+        region.state = Region.State.ACTIVE;
+        if (map == null) return;
+        region.colliders = TileColliders.build(map, world.getPhysics(), region.originX, region.originY);
+        for (EnemySpawn spawn : map.getEnemies()) {
+            region.enemies.add(world.spawnEnemy(EnemyType.forKey(spawn.type),
+                region.originX + spawn.x * map.getTileSize(), region.originY + spawn.y * map.getTileSize()));
+        }
+        for (Listener listener : listeners) {
+            listener.regionActivated(region);
+        }
+    }
+
+    private void release(Region region) {
+        switch (region.state) {
+            case UNLOADED:
+                return;
+            case LOADING:
+                // The loader thread can't be interrupted; collectFinishedLoads drops the result once it arrives.
+                if (!region.pending.isDone()) return;
+                break;
+            case ACTIVE:
+                for (Listener listener : listeners) {
+                    listener.regionReleased(region);
+                }
+                if (region.colliders != null) world.getPhysics().destroyBody(region.colliders);
+                for (int i = 0; i < region.enemies.size; i++) {
+                    world.getEngine().removeEntity(region.enemies.get(i));
+                }
+                break;
+            default:
+                break;
+        }
+        region.colliders = null;
+        region.enemies.clear();
+        region.pending = null;
+        region.map = null;
+        region.state = Region.State.UNLOADED;
+    }
+
+    public Region getRegion(int x, int y) {
+        return regions[y * regionsX + x];
+    }
+
+    public int getRegionsX() {
+        return regionsX;
+    }
+
+    public int getRegionsY() {
+        return regionsY;
+    }
+
+    @Override
+    public void dispose() {
+        executor.dispose();
+    }
+}
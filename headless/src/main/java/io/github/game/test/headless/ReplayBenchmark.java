@@ -0,0 +1,181 @@
+package io.github.game.test.headless;
+
+import com.badlogic.gdx.ApplicationAdapter;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.backends.headless.HeadlessApplication;
+import com.badlogic.gdx.backends.headless.HeadlessApplicationConfiguration;
+import com.badlogic.gdx.utils.TimeUtils;
+import io.github.game.test.GameWorld;
+import io.github.game.test.Utils;
+import io.github.game.test.input.Action;
+import io.github.game.test.map.TileMap;
+import io.github.game.test.map.TileMapLoader;
+import io.github.game.test.physics.PhysicsWorld;
+import io.github.game.test.replay.Recording;
+import io.github.game.test.replay.ReplaySource;
+import io.github.game.test.simulation.FixedStepLoop;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.Arrays;
+
+/**
+ * Replays a recorded session through {@link GameWorld} on the headless backend and reports simulation throughput,
+ * per-tick latency percentiles and heap allocation. The first run is a warm-up and is not part of the summary.
+ * <p>
+ * Arguments: {@code --recording <file>} (a synthetic one-minute session is used when absent),
+ * {@code --level <internal path>}, {@code --repeat <runs>} and {@code --min-tps <ticks per second>},
+ * which makes the process exit with status 1 when the measured throughput is lower.
+ */
+public class ReplayBenchmark extends ApplicationAdapter {
+    private static final String TAG = "ReplayBenchmark";
+
+    private String recordingPath;
+    private String levelPath = "levels/level1.txt";
+    private int repeat = 5;
+    private double minTicksPerSecond;
+
+    public static void main(String[] args) {
+        ReplayBenchmark benchmark = new ReplayBenchmark();
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--recording":
+                    benchmark.recordingPath = args[++i];
+                    break;
+                case "--level":
+                    benchmark.levelPath = args[++i];
+                    break;
+                case "--repeat":
+                    benchmark.repeat = Math.max(2, Integer.parseInt(args[++i]));
+                    break;
+                case "--min-tps":
+                    benchmark.minTicksPerSecond = Double.parseDouble(args[++i]);
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unknown argument: " + args[i]);
+            }
+        }
+        HeadlessApplicationConfiguration configuration = new HeadlessApplicationConfiguration();
+        configuration.updatesPerSecond = -1;
+        new HeadlessApplication(benchmark, configuration);
+    }
+
+    @Override
+    public void create() {
+        Recording recording = recordingPath != null
+            ? Recording.read(Gdx.files.absolute(recordingPath))
+            : syntheticRecording();
+        TileMap map = TileMapLoader.load(Utils.getInternalPath(levelPath));
+        Gdx.app.log(TAG, recording.getTicks() + " ticks of " + recording.getStep() + " s, seed " + recording.getSeed());
+
+        Result summary = null;
+        for (int run = 0; run < repeat; run++) {
+            Result result = run(recording, map);
+            Gdx.app.log(TAG, (run == 0 ? "warm-up " : "run " + run + " ") + result);
+            if (run > 0 && (summary == null || result.ticksPerSecond > summary.ticksPerSecond)) summary = result;
+        }
+        // Single machine-readable line for CI scripts, best run wins to reduce noise.
+        System.out.println("RESULT " + summary.toCsv());
+
+        if (minTicksPerSecond > 0 && summary.ticksPerSecond < minTicksPerSecond) {
+            Gdx.app.error(TAG, "Throughput " + (long) summary.ticksPerSecond + " below minimum " + (long) minTicksPerSecond);
+            System.exit(1);
+        }
+        Gdx.app.exit();
+    }
+
+    private static Result run(Recording recording, TileMap map) {
+        ReplaySource source = new ReplaySource(recording);
+        GameWorld world = new GameWorld(source, recording.getSeed());
+        world.getActorPools().preallocate(map.getPoolSizes());
+        world.loadLevel(map);
+        world.spawnPlayer(map.getSpawnX(), map.getSpawnY());
+
+        int ticks = recording.getTicks();
+        float step = recording.getStep();
+        long[] latencies = new long[ticks];
+        long allocatedBefore = allocatedBytes();
+        long start = TimeUtils.nanoTime();
+        for (int i = 0; i < ticks; i++) {
+            long tickStart = TimeUtils.nanoTime();
+            world.tick(step);
+            latencies[i] = TimeUtils.nanoTime() - tickStart;
+        }
+        long elapsed = TimeUtils.nanoTime() - start;
+        long allocated = allocatedBytes() - allocatedBefore;
+        PhysicsWorld physics = world.getPhysics();
+        Result result = new Result(ticks, elapsed, latencies, allocated,
+            physics.getSteps() == 0 ? 0 : physics.getTotalStepNanos() / physics.getSteps(), physics.getMaxStepNanos());
+        world.dispose();
+        return result;
+    }
+
+    private static long allocatedBytes() {
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        if (threads instanceof com.sun.management.ThreadMXBean) {
+            return ((com.sun.management.ThreadMXBean) threads).getThreadAllocatedBytes(Thread.currentThread().getId());
+        }
+        return -1;
+    }
+
+    /** One minute of running back and forth with the odd jump and attack. */
+    private static Recording syntheticRecording() {
+        Recording recording = new Recording(FixedStepLoop.DEFAULT_STEP, 42L);
+        int ticks = Math.round(60f / FixedStepLoop.DEFAULT_STEP);
+        for (int i = 0; i < ticks; i++) {
+            int phase = i / 240;
+            int actions = phase % 2 == 0 ? Action.MOVE_RIGHT.mask : Action.MOVE_LEFT.mask;
+            if (i % 90 < 10) actions |= Action.JUMP.mask;
+            if (i % 300 < 5) actions |= Action.ATTACK.mask;
+            recording.add(actions);
+        }
+        return recording;
+    }
+
+    private static final class Result {
+        final int ticks;
+        final double ticksPerSecond;
+        final long p50, p90, p99, p999, max;
+        final long allocatedBytes;
+        final long physicsAverage, physicsMax;
+
+        Result(int ticks, long elapsedNanos, long[] latencies, long allocatedBytes, long physicsAverage, long physicsMax) {
+            this.ticks = ticks;
+            this.ticksPerSecond = ticks / (elapsedNanos / 1e9);
+            long[] sorted = latencies.clone();
+            Arrays.sort(sorted);
+            p50 = percentile(sorted, 0.50);
+            p90 = percentile(sorted, 0.90);
+            p99 = percentile(sorted, 0.99);
+            p999 = percentile(sorted, 0.999);
+            max = sorted.length == 0 ? 0 : sorted[sorted.length - 1];
+            this.allocatedBytes = allocatedBytes;
+            this.physicsAverage = physicsAverage;
+            this.physicsMax = physicsMax;
+        }
+
+        private static long percentile(long[] sorted, double fraction) {
+            if (sorted.length == 0) return 0;
+            return sorted[Math.min(sorted.length - 1, (int) Math.ceil(fraction * sorted.length) - 1)];
+        }
+
+        double allocatedPerTick() {
+            return ticks == 0 ? 0 : (double) allocatedBytes / ticks;
+        }
+
+        String toCsv() {
+            return String.format("ticks=%d,tps=%.0f,p50us=%.2f,p90us=%.2f,p99us=%.2f,p999us=%.2f,maxus=%.2f,allocBytesPerTick=%.1f,"
+                    + "physicsAvgUs=%.2f,physicsMaxUs=%.2f",
+                ticks, ticksPerSecond, p50 / 1e3, p90 / 1e3, p99 / 1e3, p999 / 1e3, max / 1e3, allocatedPerTick(),
+                physicsAverage / 1e3, physicsMax / 1e3);
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%.0f ticks/s, latency p50 %.2f us, p90 %.2f us, p99 %.2f us, p99.9 %.2f us, max %.2f us, "
+                    + "%.1f bytes allocated per tick, physics step avg %.2f us, max %.2f us",
+                ticksPerSecond, p50 / 1e3, p90 / 1e3, p99 / 1e3, p999 / 1e3, max / 1e3, allocatedPerTick(),
+                physicsAverage / 1e3, physicsMax / 1e3);
+        }
+    }
+}
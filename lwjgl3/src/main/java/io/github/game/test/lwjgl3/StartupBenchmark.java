@@ -0,0 +1,147 @@
+package io.github.game.test.lwjgl3;
+
+import io.github.game.test.GameScreen;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Launches the game once per run in each available launch mode and reports the wall-clock time from process start
+ * to the first game frame. The game is started with {@link GameScreen#EXIT_AFTER_FIRST_FRAME_PROPERTY}, so it logs
+ * {@link GameScreen#FIRST_FRAME_MESSAGE} and quits on its own. Modes whose files are missing are skipped.
+ * <p>
+ * Arguments: {@code --java <executable>}, {@code --jar <file>}, {@code --cds <archive>} (adds the jar with
+ * class-data sharing mode), {@code --native <executable>}, {@code --workdir <dir>} and {@code --runs <count>}.
+ */
+public class StartupBenchmark {
+    public static final long TIMEOUT_SECONDS = 120;
+    public static final long EXIT_GRACE_SECONDS = 10;
+
+    private String java = System.getProperty("java.home") + File.separator + "bin" + File.separator + "java";
+    private String jar;
+    private String cdsArchive;
+    private String nativeExecutable;
+    private File workDir = new File(".");
+    private int runs = 5;
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        StartupBenchmark benchmark = new StartupBenchmark();
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--java":
+                    benchmark.java = args[++i];
+                    break;
+                case "--jar":
+                    benchmark.jar = args[++i];
+                    break;
+                case "--cds":
+                    benchmark.cdsArchive = args[++i];
+                    break;
+                case "--native":
+                    benchmark.nativeExecutable = args[++i];
+                    break;
+                case "--workdir":
+                    benchmark.workDir = new File(args[++i]);
+                    break;
+                case "--runs":
+                    benchmark.runs = Math.max(1, Integer.parseInt(args[++i]));
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unknown argument: " + args[i]);
+            }
+        }
+        benchmark.run();
+    }
+
+    private void run() throws IOException, InterruptedException {
+        String exitProperty = "-D" + GameScreen.EXIT_AFTER_FIRST_FRAME_PROPERTY + "=true";
+        if (exists(jar, "jar")) {
+            measure("jar", jvm(exitProperty));
+            if (exists(cdsArchive, "jar + CDS")) {
+                List<String> command = jvm(exitProperty, "-XX:SharedArchiveFile=" + cdsArchive, "-Xshare:auto");
+                measure("jar + CDS", command);
+            }
+        }
+        if (exists(nativeExecutable, "native")) {
+            measure("native", Arrays.asList(nativeExecutable, exitProperty));
+        }
+    }
+
+    private boolean exists(String path, String mode) {
+        if (path != null && new File(path).isFile()) return true;
+        System.out.println(mode + ": skipped, " + (path == null ? "not configured" : path + " not found"));
+        return false;
+    }
+
+    private List<String> jvm(String... options) {
+        List<String> command = new ArrayList<>();
+        command.add(java);
+        // Started the way StartupHelper would restart it, so macOS runs don't pay for a second JVM.
+        if (System.getProperty("os.name").toLowerCase().contains("mac")) command.add("-XstartOnFirstThread");
+        command.addAll(Arrays.asList(options));
+        command.add("-jar");
+        command.add(jar);
+        return command;
+    }
+
+    private void measure(String mode, List<String> command) throws IOException, InterruptedException {
+        long[] millis = new long[runs];
+        for (int run = 0; run < runs; run++) {
+            millis[run] = timeToFirstFrame(command);
+            if (millis[run] < 0) {
+                System.out.println(mode + ": run " + run + " never reached the first frame");
+                return;
+            }
+        }
+        Arrays.sort(millis);
+        // Single machine-readable line per mode, like the replay benchmark's RESULT line.
+        System.out.printf("RESULT mode=%s,runs=%d,minMs=%d,medianMs=%d,maxMs=%d%n",
+            mode, runs, millis[0], millis[runs / 2], millis[runs - 1]);
+    }
+
+    /**
+     * Milliseconds from launch to the first-frame message, or -1 if the process ended or timed out without printing
+     * it. Output is drained on its own thread, so a process that hangs before or after its first frame is killed.
+     */
+    private long timeToFirstFrame(List<String> command) throws IOException, InterruptedException {
+        long start = System.nanoTime();
+        Process process = new ProcessBuilder(command).directory(workDir).redirectErrorStream(true).start();
+        AtomicLong elapsed = new AtomicLong(-1);
+        // Released at the first-frame message, or when output ends without it.
+        CountDownLatch done = new CountDownLatch(1);
+        Thread drain = new Thread(() -> {
+            try (BufferedReader output = new BufferedReader(new InputStreamReader(process.getInputStream()))) {
+                String line;
+                while ((line = output.readLine()) != null) {
+                    if (elapsed.get() < 0 && line.contains(GameScreen.FIRST_FRAME_MESSAGE)) {
+                        elapsed.set(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+                        done.countDown();
+                    }
+                }
+            } catch (IOException ignored) {
+                // The process was killed or closed its output; whatever was measured stands.
+            } finally {
+                done.countDown();
+            }
+        }, "startup-output");
+        drain.setDaemon(true);
+        drain.start();
+
+        if (!done.await(TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+            System.out.println("timed out after " + TIMEOUT_SECONDS + " s");
+            process.destroyForcibly();
+            return -1;
+        }
+        // The game quits on its own after the first frame; don't let a slow shutdown hold up the next run.
+        if (!process.waitFor(EXIT_GRACE_SECONDS, TimeUnit.SECONDS)) process.destroyForcibly();
+        return elapsed.get();
+    }
+}